@@ -48,10 +48,12 @@ public class OpenAPIGenerator {
                         .withCommands(
                                 ListGenerators.class,
                                 Generate.class,
+                                Batch.class,
                                 Meta.class,
                                 Help.class,
                                 ConfigHelp.class,
                                 Validate.class,
+                                Normalize.class,
                                 Version.class,
                                 CompletionCommand.class
                         );
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airlift.airline.Arguments;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FilenameUtils;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.SpecNormalizer;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.config.GeneratorProperties;
+import org.openapitools.codegen.utils.ModelUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Command(name = "batch", description = "Run several generations listed in a manifest in a single process, "
+        + "parsing each distinct spec only once")
+public class Batch implements Runnable {
+
+    @Option(name = {"--threads"}, title = "threads",
+            description = "number of generations to run in parallel (the number of processors by default)")
+    private Integer threads;
+
+    @Arguments(title = "manifest", required = true,
+            description = "JSON or YAML file with a 'jobs' list; each job holds the settings of a config file "
+                    + "(inputSpec, generatorName, outputDir, ...), plus an optional 'name' and an optional "
+                    + "'config' file to start from")
+    private String manifest;
+
+    // parsed and normalized specs, serialized so that every job gets its own copy to modify
+    final ConcurrentMap<String, CompletableFuture<byte[]>> specs = new ConcurrentHashMap<>();
+
+    @Override
+    public void run() {
+        List<Job> jobs;
+        try {
+            jobs = readManifest(new File(manifest));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("[error] Unable to read manifest " + manifest + ": " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        try {
+            if (runJobs(jobs) > 0) {
+                System.exit(1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the jobs in parallel and reports the outcome of each; a failed job does not stop the others.
+     *
+     * @return the number of failed jobs
+     */
+    int runJobs(List<Job> jobs) throws InterruptedException {
+        int poolSize = threads != null && threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(poolSize, Math.max(jobs.size(), 1)));
+        long start = System.nanoTime();
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (Job job : jobs) {
+                results.add(executor.submit(() -> job.run(this)));
+            }
+            int failures = 0;
+            for (int i = 0; i < jobs.size(); i++) {
+                try {
+                    System.out.println(results.get(i).get());
+                } catch (ExecutionException e) {
+                    failures++;
+                    Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+                    System.err.println(String.format(Locale.ROOT, "[failed] %s: %s", jobs.get(i).name, cause));
+                }
+            }
+            System.out.println(String.format(Locale.ROOT, "%d of %d jobs succeeded in %d ms",
+                    jobs.size() - failures, jobs.size(), millisSince(start)));
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static List<Job> readManifest(File file) throws IOException {
+        ObjectMapper mapper = FilenameUtils.isExtension(file.getName(), new String[]{"yml", "yaml"})
+                ? Yaml.mapper() : Json.mapper();
+        JsonNode jobNodes = mapper.readTree(file).get("jobs");
+        if (jobNodes == null || !jobNodes.isArray()) {
+            throw new IllegalArgumentException("expected a 'jobs' list");
+        }
+
+        List<Job> jobs = new ArrayList<>();
+        for (JsonNode jobNode : jobNodes) {
+            if (!jobNode.isObject()) {
+                throw new IllegalArgumentException("expected each job to be an object");
+            }
+            jobs.add(new Job((ObjectNode) jobNode.deepCopy(), mapper));
+        }
+        return jobs;
+    }
+
+    /**
+     * Parses (and validates, if the job asks for it) a spec on first use, and returns a copy of it for each job.
+     */
+    OpenAPI readSpec(CodegenConfigurator configurator) throws IOException {
+        String key = configurator.getInputSpec() + '\n' + configurator.getAuth() + '\n' + configurator.isValidateSpec();
+        CompletableFuture<byte[]> spec = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = specs.putIfAbsent(key, spec);
+        if (existing == null) {
+            try {
+                spec.complete(Json.mapper().writeValueAsBytes(SpecNormalizer.normalize(configurator.readInputSpec())));
+            } catch (IOException | RuntimeException e) {
+                spec.completeExceptionally(e);
+            }
+            existing = spec;
+        }
+        return Json.mapper().readValue(existing.join(), OpenAPI.class);
+    }
+
+    private static long millisSince(long start) {
+        return (System.nanoTime() - start) / 1000000L;
+    }
+
+    static final class Job {
+        final String name;
+        final ObjectNode settings;
+        final String configFile;
+        private final ObjectMapper mapper;
+
+        private Job(ObjectNode settings, ObjectMapper mapper) {
+            JsonNode name = settings.remove("name");
+            JsonNode config = settings.remove("config");
+            this.name = name != null ? name.asText()
+                    : settings.path("generatorName").asText() + " -> " + settings.path("outputDir").asText();
+            this.configFile = config != null ? config.asText() : null;
+            this.settings = settings;
+            this.mapper = mapper;
+        }
+
+        private String run(Batch batch) throws IOException {
+            // settings of one job must not leak into the next one run on this thread
+            GeneratorProperties.reset();
+            ModelUtils.setGenerateAliasAsModel(false);
+            try {
+                long start = System.nanoTime();
+                CodegenConfigurator configurator = configFile != null ? CodegenConfigurator.fromFile(configFile) : null;
+                if (configurator == null) {
+                    if (configFile != null) {
+                        throw new IOException("Unable to read config file " + configFile);
+                    }
+                    configurator = new CodegenConfigurator();
+                }
+                configurator = mapper.readerForUpdating(configurator).readValue(settings);
+
+                OpenAPI openAPI = batch.readSpec(configurator);
+                List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput(openAPI)).generate();
+                return String.format(Locale.ROOT, "[ok] %s: %d files in %d ms", name, files.size(), millisSince(start));
+            } finally {
+                GeneratorProperties.reset();
+            }
+        }
+    }
+}
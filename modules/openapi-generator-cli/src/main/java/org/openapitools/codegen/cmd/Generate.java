@@ -31,6 +31,7 @@ import ch.qos.logback.core.spi.FilterAttachable;
 import io.airlift.airline.Command;
 import io.airlift.airline.Option;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
@@ -38,6 +39,7 @@ import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.GeneratorNotFoundException;
+import org.openapitools.codegen.TemplateWatcher;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -169,6 +171,10 @@ public class Generate implements Runnable {
     @Option(name = {"--library"}, title = "library", description = CodegenConstants.LIBRARY_DESC)
     private String library;
 
+    @Option(name = {"-e", "--engine"}, title = "templating engine",
+            description = "templating engine rendering the templates: \"mustache\" (default), or the identifier or class name of another TemplatingEngineAdapter on the classpath")
+    private String templatingEngine;
+
     @Option(name = {"--git-user-id"}, title = "git user id",
             description = CodegenConstants.GIT_USER_ID_DESC)
     private String gitUserId;
@@ -222,6 +228,12 @@ public class Generate implements Runnable {
         description = "Only write output files that have changed.")
     private Boolean minimalUpdate;
 
+    @Option(name = {"--watch"},
+        title = "Watch",
+        description = "Keep running after generation, regenerating when the input spec or the contents of the template directory change. "
+                + "When only templates change, just the files rendered from them are written again.")
+    private Boolean watch;
+
     @Override
     public void run() {
         if (logToStderr != null) {
@@ -320,6 +332,10 @@ public class Generate implements Runnable {
             configurator.setLibrary(library);
         }
 
+        if (isNotEmpty(templatingEngine)) {
+            configurator.setTemplatingEngineName(templatingEngine);
+        }
+
         if (isNotEmpty(gitUserId)) {
             configurator.setGitUserId(gitUserId);
         }
@@ -364,8 +380,17 @@ public class Generate implements Runnable {
         applyReservedWordsMappingsKvpList(reservedWordsMappings, configurator);
 
         try {
-            final ClientOptInput clientOptInput = configurator.toClientOptInput();
-            new DefaultGenerator().opts(clientOptInput).generate();
+            if (Boolean.TRUE.equals(watch)) {
+                new TemplateWatcher(configurator).watch();
+            } else {
+                final ClientOptInput clientOptInput = configurator.toClientOptInput();
+                new DefaultGenerator().opts(clientOptInput).generate();
+            }
+        } catch (IOException e) {
+            System.err.println("[error] Unable to watch for changes: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (GeneratorNotFoundException e) {
             System.err.println(e.getMessage());
             System.err.println("[error] Check the spelling of the generator's name and try again.");
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.codegen.SpecNormalizer;
+import org.openapitools.codegen.auth.AuthParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+@Command(name = "normalize", description = "Parse, resolve and flatten a specification once, "
+        + "writing a compressed artifact which can be passed to generate as the input spec")
+public class Normalize implements Runnable {
+
+    @Option(name = {"-i", "--input-spec"}, title = "spec file", required = true,
+            description = "location of the OpenAPI spec, as URL or file (required)")
+    private String spec;
+
+    @Option(name = {"-o", "--output"}, title = "output file", required = true,
+            description = "where to write the normalized spec (required)")
+    private String output;
+
+    @Option(
+            name = {"-a", "--auth"},
+            title = "authorization",
+            description = "adds authorization headers when fetching the OpenAPI definitions remotely. "
+                    + "Pass in a URL-encoded string of name:header with a comma separating multiple values")
+    private String auth;
+
+    @Override
+    public void run() {
+        System.out.println("Normalizing spec (" + spec + ")");
+
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        SwaggerParseResult result = new OpenAPIParser().readLocation(spec, AuthParser.parse(auth), options);
+        List<String> messageList = result.getMessages();
+        OpenAPI specification = result.getOpenAPI();
+
+        if (specification == null || (messageList != null && !messageList.isEmpty())) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Errors:").append(System.lineSeparator());
+            if (messageList != null) {
+                messageList.forEach(msg ->
+                        sb.append("\t-").append(msg).append(System.lineSeparator())
+                );
+            }
+            sb.append(System.lineSeparator());
+            sb.append("[error] Spec could not be normalized; run validate for details.");
+            System.err.println(sb.toString());
+            System.exit(1);
+        }
+
+        try {
+            SpecNormalizer.write(SpecNormalizer.normalize(specification), new File(output));
+        } catch (IOException e) {
+            System.err.println("[error] Unable to write " + output + ": " + e.getMessage());
+            System.exit(1);
+        }
+
+        System.out.println("Normalized spec written to " + output);
+    }
+}
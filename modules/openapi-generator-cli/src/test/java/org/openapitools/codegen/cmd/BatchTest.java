@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+public class BatchTest {
+    private static final String SPEC = "src/test/resources/swagger.yaml";
+
+    @Test
+    public void testReadManifest() throws Exception {
+        File dir = Files.createTempDirectory("batch").toFile();
+        try {
+            File manifest = write(new File(dir, "manifest.yaml"), "jobs:\n"
+                    + "  - name: java client\n"
+                    + "    generatorName: java\n"
+                    + "    inputSpec: " + SPEC + "\n"
+                    + "    outputDir: out/java\n"
+                    + "  - generatorName: html\n"
+                    + "    inputSpec: " + SPEC + "\n"
+                    + "    outputDir: out/html\n"
+                    + "    config: html.json\n");
+
+            List<Batch.Job> jobs = Batch.readManifest(manifest);
+            Assert.assertEquals(jobs.size(), 2);
+
+            Assert.assertEquals(jobs.get(0).name, "java client");
+            Assert.assertNull(jobs.get(0).configFile);
+            Assert.assertFalse(jobs.get(0).settings.has("name"));
+            Assert.assertEquals(jobs.get(0).settings.get("generatorName").asText(), "java");
+            Assert.assertEquals(jobs.get(0).settings.get("outputDir").asText(), "out/java");
+
+            Assert.assertEquals(jobs.get(1).name, "html -> out/html");
+            Assert.assertEquals(jobs.get(1).configFile, "html.json");
+            Assert.assertFalse(jobs.get(1).settings.has("config"));
+        } finally {
+            FileUtils.deleteDirectory(dir);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testReadManifestWithoutJobList() throws Exception {
+        File dir = Files.createTempDirectory("batch").toFile();
+        try {
+            Batch.readManifest(write(new File(dir, "manifest.json"), "{\"jobs\": {\"generatorName\": \"java\"}}"));
+        } finally {
+            FileUtils.deleteDirectory(dir);
+        }
+    }
+
+    @Test
+    public void testJobsShareParsedSpec() throws Exception {
+        File dir = Files.createTempDirectory("batch").toFile();
+        try {
+            File manifest = write(new File(dir, "manifest.json"), "{\"jobs\": ["
+                    + job("java", SPEC, new File(dir, "java")) + ", "
+                    + job("html", SPEC, new File(dir, "html")) + "]}");
+
+            Batch batch = new Batch();
+            Assert.assertEquals(batch.runJobs(Batch.readManifest(manifest)), 0);
+            Assert.assertEquals(batch.specs.size(), 1);
+            Assert.assertTrue(new File(dir, "java/README.md").isFile());
+            Assert.assertTrue(new File(dir, "html/index.html").isFile());
+
+            // each job gets its own copy of the parsed spec to modify
+            CodegenConfigurator configurator = new CodegenConfigurator().setInputSpec(SPEC);
+            OpenAPI first = batch.readSpec(configurator);
+            OpenAPI second = batch.readSpec(configurator);
+            Assert.assertNotSame(first, second);
+            Assert.assertNotSame(first.getPaths(), second.getPaths());
+            Assert.assertEquals(second.getPaths().keySet(), first.getPaths().keySet());
+            Assert.assertEquals(batch.specs.size(), 1);
+        } finally {
+            FileUtils.deleteDirectory(dir);
+        }
+    }
+
+    @Test
+    public void testFailedJobDoesNotStopOthers() throws Exception {
+        File dir = Files.createTempDirectory("batch").toFile();
+        try {
+            File manifest = write(new File(dir, "manifest.json"), "{\"jobs\": ["
+                    + job("html", SPEC, new File(dir, "first")) + ", "
+                    + job("html", "src/test/resources/no-such-spec.yaml", new File(dir, "failed")) + ", "
+                    + job("html", SPEC, new File(dir, "last")) + "]}");
+
+            Batch batch = new Batch();
+            Assert.assertEquals(batch.runJobs(Batch.readManifest(manifest)), 1);
+            Assert.assertTrue(new File(dir, "first/index.html").isFile());
+            Assert.assertFalse(new File(dir, "failed/index.html").exists());
+            Assert.assertTrue(new File(dir, "last/index.html").isFile());
+        } finally {
+            FileUtils.deleteDirectory(dir);
+        }
+    }
+
+    private static String job(String generatorName, String inputSpec, File outputDir) {
+        return "{\"generatorName\": \"" + generatorName + "\", \"inputSpec\": \"" + inputSpec
+                + "\", \"outputDir\": \"" + outputDir.getAbsolutePath().replace("\\", "/") + "\"}";
+    }
+
+    private static File write(File file, String contents) throws Exception {
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -17,15 +17,16 @@
 
 package org.openapitools.codegen;
 
+import java.io.Serializable;
 import java.util.*;
 
-public class CodegenCallback {
+public class CodegenCallback implements Serializable {
     public String name;
     public boolean hasMore;
     public List<Url> urls = new ArrayList<>();
     public Map<String, Object> vendorExtensions = new HashMap<>();
 
-    public static class Url {
+    public static class Url implements Serializable {
         public String expression;
         public boolean hasMore;
         public List<CodegenOperation> requests = new ArrayList<>();
@@ -24,6 +24,7 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.servers.ServerVariable;
+import org.openapitools.codegen.templating.TemplatingEngineAdapter;
 
 import java.io.File;
 import java.util.List;
@@ -264,4 +265,8 @@ public interface CodegenConfig {
 
     public void setEnableMinimalUpdate(boolean isEnableMinimalUpdate);
 
+    TemplatingEngineAdapter getTemplatingEngine();
+
+    void setTemplatingEngine(TemplatingEngineAdapter templatingEngine);
+
 }
@@ -32,6 +32,9 @@ public class CodegenConstants {
     public static final String API_DOCS = "apiDocs";
     public static final String WITH_XML = "withXml";
     public static final String SKIP_FORM_MODEL = "skipFormModel";
+    public static final String WRITE_SNAPSHOT = "writeSnapshot";
+    public static final String RENDER_SNAPSHOT = "renderSnapshot";
+    public static final String LOW_MEMORY = "lowMemory";
     /* /end System Properties */
 
     public static final String API_PACKAGE = "apiPackage";
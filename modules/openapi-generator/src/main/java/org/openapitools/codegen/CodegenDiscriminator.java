@@ -2,12 +2,13 @@ package org.openapitools.codegen;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.io.Serializable;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
-public class CodegenDiscriminator {
+public class CodegenDiscriminator implements Serializable {
     private String propertyName;
     private Map<String, String> mapping;
     private Set<MappedModel> mappedModels = new LinkedHashSet<>();
@@ -36,7 +37,7 @@ public class CodegenDiscriminator {
         this.mappedModels = mappedModels;
     }
 
-    public static class MappedModel {
+    public static class MappedModel implements Serializable {
         private String mappingName;
         private String modelName;
 
@@ -21,10 +21,11 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.io.Serializable;
 import java.util.*;
 
 @JsonIgnoreProperties({"parentModel", "interfaceModels"})
-public class CodegenModel {
+public class CodegenModel implements Serializable {
     public String parent, parentSchema;
     public List<String> interfaces;
     public List<String> allParents;
@@ -539,24 +540,12 @@ public class CodegenModel {
     }
 
     private List<CodegenProperty> removeDuplicatedProperty(List<CodegenProperty> vars) {
-        // clone the list first
-        List<CodegenProperty> newList = new ArrayList<CodegenProperty>();
+        // clone the first property of each name only, rather than cloning all and then removing duplicates
+        List<CodegenProperty> newList = new ArrayList<CodegenProperty>(vars.size());
+        Set<String> propertyNames = new HashSet<String>();
         for (CodegenProperty cp : vars) {
-            newList.add(cp.clone());
-        }
-
-        Set<String> propertyNames = new TreeSet<String>();
-        Set<String> duplicatedNames = new TreeSet<String>();
-
-        ListIterator<CodegenProperty> iterator = newList.listIterator();
-        while (iterator.hasNext()) {
-            CodegenProperty element = iterator.next();
-
-            if (propertyNames.contains(element.baseName)) {
-                duplicatedNames.add(element.baseName);
-                iterator.remove();
-            } else {
-                propertyNames.add(element.baseName);
+            if (propertyNames.add(cp.baseName)) {
+                newList.add(cp.clone());
             }
         }
 
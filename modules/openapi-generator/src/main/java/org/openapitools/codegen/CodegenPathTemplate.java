@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * An operation path parsed into literal text and <code>{variable}</code> references, e.g. <code>/pet/{petId}/photos</code>
+ * into "/pet/", petId and "/photos". Parsed once per operation, so that generators rewriting the path into their own
+ * syntax do not each need to match it with regular expressions.
+ */
+public class CodegenPathTemplate implements Serializable {
+
+    /**
+     * A piece of the path: either literal text or a reference to a path variable.
+     */
+    public static class Part implements Serializable {
+        public final boolean isVariable;
+        /**
+         * The literal text, or the name of the variable (without braces).
+         */
+        public final String value;
+        /**
+         * The path parameter of the variable, if the operation declares one.
+         */
+        public final CodegenParameter parameter;
+
+        public Part(boolean isVariable, String value, CodegenParameter parameter) {
+            this.isVariable = isVariable;
+            this.value = value;
+            this.parameter = parameter;
+        }
+
+        @Override
+        public String toString() {
+            return isVariable ? "{" + value + "}" : value;
+        }
+    }
+
+    public final String path;
+    public final List<Part> parts;
+    public final List<String> variableNames;
+    public final boolean hasVariables;
+
+    private CodegenPathTemplate(String path, List<Part> parts, List<String> variableNames) {
+        this.path = path;
+        this.parts = Collections.unmodifiableList(parts);
+        this.variableNames = Collections.unmodifiableList(variableNames);
+        this.hasVariables = !variableNames.isEmpty();
+    }
+
+    /**
+     * Parses a path. A variable is a non-empty name between braces; unmatched braces are kept as literal text.
+     *
+     * @param path       the path, as given in the specification
+     * @param pathParams the path parameters of the operation, matched to the variables by base name
+     * @return the parsed path
+     */
+    public static CodegenPathTemplate parse(String path, List<CodegenParameter> pathParams) {
+        List<Part> parts = new ArrayList<Part>();
+        List<String> variableNames = new ArrayList<String>();
+        int literalStart = 0;
+        int open = path.indexOf('{');
+        while (open >= 0) {
+            int close = path.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            if (close == open + 1) {
+                open = path.indexOf('{', close + 1);
+                continue;
+            }
+            if (open > literalStart) {
+                parts.add(new Part(false, path.substring(literalStart, open), null));
+            }
+            String name = path.substring(open + 1, close);
+            parts.add(new Part(true, name, findParameter(name, pathParams)));
+            variableNames.add(name);
+            literalStart = close + 1;
+            open = path.indexOf('{', literalStart);
+        }
+        if (literalStart < path.length()) {
+            parts.add(new Part(false, path.substring(literalStart), null));
+        }
+        return new CodegenPathTemplate(path, parts, variableNames);
+    }
+
+    private static CodegenParameter findParameter(String name, List<CodegenParameter> pathParams) {
+        if (pathParams != null) {
+            for (CodegenParameter parameter : pathParams) {
+                if (name.equals(parameter.baseName)) {
+                    return parameter;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rebuilds the path, keeping the literal text and replacing each variable.
+     *
+     * @param variable returns the replacement of a variable part
+     * @return the rewritten path
+     */
+    public String render(Function<Part, String> variable) {
+        StringBuilder sb = new StringBuilder(path.length() + 16);
+        for (Part part : parts) {
+            sb.append(part.isVariable ? variable.apply(part) : part.value);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
@@ -17,9 +17,10 @@
 
 package org.openapitools.codegen;
 
+import java.io.Serializable;
 import java.util.*;
 
-public class CodegenProperty implements Cloneable {
+public class CodegenProperty implements Cloneable, Serializable {
     public String openApiType, baseName, complexType, getter, setter, description, dataType,
             datatypeWithEnum, dataFormat, name, min, max, defaultValue, defaultValueWithParam,
             baseType, containerType, title;
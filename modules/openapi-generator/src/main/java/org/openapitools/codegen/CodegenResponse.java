@@ -17,9 +17,10 @@
 
 package org.openapitools.codegen;
 
+import java.io.Serializable;
 import java.util.*;
 
-public class CodegenResponse {
+public class CodegenResponse implements Serializable {
     public final List<CodegenProperty> headers = new ArrayList<CodegenProperty>();
     public String code, message;
     public boolean hasMore;
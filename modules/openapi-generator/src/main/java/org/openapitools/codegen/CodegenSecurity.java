@@ -17,13 +17,14 @@
 
 package org.openapitools.codegen;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
-public class CodegenSecurity {
+public class CodegenSecurity implements Serializable {
     public String name;
     public String type;
     public String scheme;
@@ -1,8 +1,9 @@
 package org.openapitools.codegen;
 
+import java.io.Serializable;
 import java.util.List;
 
-public class CodegenServer {
+public class CodegenServer implements Serializable {
     public String url;
     public String description;
     public List<CodegenServerVariable> variables;
@@ -1,8 +1,9 @@
 package org.openapitools.codegen;
 
+import java.io.Serializable;
 import java.util.List;
 
-public class CodegenServerVariable {
+public class CodegenServerVariable implements Serializable {
     public String name;
     public String defaultValue;
     public String description;
@@ -44,6 +44,8 @@ import org.openapitools.codegen.CodegenDiscriminator.MappedModel;
 import org.openapitools.codegen.config.GeneratorProperties;
 import org.openapitools.codegen.examples.ExampleGenerator;
 import org.openapitools.codegen.serializer.SerializerUtils;
+import org.openapitools.codegen.templating.MustacheEngineAdapter;
+import org.openapitools.codegen.templating.TemplatingEngineAdapter;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,15 +115,26 @@ public class DefaultCodegen implements CodegenConfig {
     protected boolean enablePostProcessFile = false;
     // flag to indicate whether to only update files whose contents have changed
     protected boolean enableMinimalUpdate = false;
+    // renders the templates; jmustache unless another engine is configured
+    protected TemplatingEngineAdapter templatingEngine = new MustacheEngineAdapter();
 
     // make openapi available to all methods
     protected OpenAPI openAPI;
 
+    // model properties converted by fromProperty, by schema instance and property name (see addVars)
+    private Map<Schema, Map<String, CodegenProperty>> modelPropertyCache = new IdentityHashMap<Schema, Map<String, CodegenProperty>>();
+
+    // JSON of parameters by instance, so that a referenced parameter is serialized once for all operations using it
+    private Map<Parameter, String> parameterJsonSchemaCache = new IdentityHashMap<Parameter, String>();
+
     public List<CliOption> cliOptions() {
         return cliOptions;
     }
 
     public void processOpts() {
+        modelPropertyCache.clear();
+        parameterJsonSchemaCache.clear();
+
         if (additionalProperties.containsKey(CodegenConstants.TEMPLATE_DIR)) {
             this.setTemplateDir((String) additionalProperties.get(CodegenConstants.TEMPLATE_DIR));
         }
@@ -202,17 +215,8 @@ public class DefaultCodegen implements CodegenConfig {
      * @return maps of models with various updates
      */
     public Map<String, Object> updateAllModels(Map<String, Object> objs) {
-        // Index all CodegenModels by model name.
-        Map<String, CodegenModel> allModels = new HashMap<String, CodegenModel>();
-        for (Entry<String, Object> entry : objs.entrySet()) {
-            String modelName = toModelName(entry.getKey());
-            Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-            List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-            for (Map<String, Object> mo : models) {
-                CodegenModel cm = (CodegenModel) mo.get("model");
-                allModels.put(modelName, cm);
-            }
-        }
+        ModelGraph graph = ModelGraph.of(objs, this::toModelName);
+        Map<String, CodegenModel> allModels = graph.getModelsByName();
 
         // Fix up all parent and interface CodegenModel references.
         for (CodegenModel cm : allModels.values()) {
@@ -251,18 +255,14 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         // loop through properties of each model to detect self-reference
-        for (Map.Entry<String, Object> entry : objs.entrySet()) {
-            Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-            List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-            for (Map<String, Object> mo : models) {
-                CodegenModel cm = (CodegenModel) mo.get("model");
-                for (CodegenProperty cp : cm.allVars) {
-                    // detect self import
-                    if (cp.dataType.equalsIgnoreCase(cm.classname) ||
-                            (cp.isContainer && cp.items != null && cp.items.dataType.equalsIgnoreCase(cm.classname))) {
-                        cm.imports.remove(cm.classname); // remove self import
-                        cp.isSelfReference = true;
-                    }
+        for (Map<String, Object> mo : graph.getModelTemplates()) {
+            CodegenModel cm = (CodegenModel) mo.get("model");
+            for (CodegenProperty cp : cm.allVars) {
+                // detect self import
+                if (cp.dataType.equalsIgnoreCase(cm.classname) ||
+                        (cp.isContainer && cp.items != null && cp.items.dataType.equalsIgnoreCase(cm.classname))) {
+                    cm.imports.remove(cm.classname); // remove self import
+                    cp.isSelfReference = true;
                 }
             }
         }
@@ -422,6 +422,8 @@ public class DefaultCodegen implements CodegenConfig {
     @Override
     public void setOpenAPI(OpenAPI openAPI) {
         this.openAPI = openAPI;
+        this.modelPropertyCache.clear();
+        this.parameterJsonSchemaCache.clear();
     }
 
     // override with any special post-processing
@@ -2606,6 +2608,7 @@ public class DefaultCodegen implements CodegenConfig {
         op.formParams = addHasMore(formParams);
         op.requiredParams = addHasMore(requiredParams);
         op.optionalParams = addHasMore(optionalParams);
+        op.pathTemplate = CodegenPathTemplate.parse(op.path, op.pathParams);
         op.externalDocs = operation.getExternalDocs();
         // legacy support
         op.nickname = op.operationId;
@@ -2843,7 +2846,11 @@ public class DefaultCodegen implements CodegenConfig {
         if (parameter.getRequired() != null) {
             codegenParameter.required = parameter.getRequired();
         }
-        codegenParameter.jsonSchema = Json.pretty(parameter);
+        codegenParameter.jsonSchema = parameterJsonSchemaCache.get(parameter);
+        if (codegenParameter.jsonSchema == null) {
+            codegenParameter.jsonSchema = Json.pretty(parameter);
+            parameterJsonSchemaCache.put(parameter, codegenParameter.jsonSchema);
+        }
 
         if (GeneratorProperties.getProperty("debugParser") != null) {
             LOGGER.info("working on Parameter " + parameter.getName());
@@ -3506,7 +3513,7 @@ public class DefaultCodegen implements CodegenConfig {
             if (prop == null) {
                 LOGGER.warn("Please report the issue. There shouldn't be null property for " + key);
             } else {
-                final CodegenProperty cp = fromProperty(key, prop);
+                final CodegenProperty cp = fromModelProperty(key, prop);
                 cp.required = mandatory.contains(key);
                 m.hasRequired = m.hasRequired || cp.required;
                 m.hasOptional = m.hasOptional || !cp.required;
@@ -3552,6 +3559,67 @@ public class DefaultCodegen implements CodegenConfig {
         }
     }
 
+    /**
+     * Convert a model property, reusing the result of an earlier conversion of the same schema instance and name.
+     * Properties of a base type are otherwise converted again for {@code vars} and {@code allVars} of every model
+     * inheriting them.
+     *
+     * @param name name of the property
+     * @param p    OAS property object
+     * @return a copy of the Codegen Property object, which the caller may modify
+     */
+    private CodegenProperty fromModelProperty(String name, Schema p) {
+        Map<String, CodegenProperty> properties = modelPropertyCache.get(p);
+        if (properties == null) {
+            properties = new HashMap<String, CodegenProperty>();
+            modelPropertyCache.put(p, properties);
+        }
+        CodegenProperty cp = properties.get(name);
+        if (cp == null) {
+            cp = fromProperty(name, p);
+            properties.put(name, cp);
+        }
+        return copyProperty(cp);
+    }
+
+    private static CodegenProperty copyProperty(CodegenProperty cp) {
+        CodegenProperty copy = cp.clone();
+        // items are shared by clone(); copy them so that post-processing one model cannot affect another
+        if (cp.items != null) {
+            copy.items = copyProperty(cp.items);
+            // mostInnerItems is one of the items: point it at the corresponding copy
+            CodegenProperty original = cp.items;
+            CodegenProperty copied = copy.items;
+            while (original != null && original != cp.mostInnerItems) {
+                original = original.items;
+                copied = copied.items;
+            }
+            if (original != null) {
+                copy.mostInnerItems = copied;
+            }
+        }
+        // clone() copies the map, but not the enum values and enumVars lists in it, which post-processing may modify
+        if (cp.allowableValues != null) {
+            copy.allowableValues = copyAllowableValues(cp.allowableValues);
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> copyAllowableValues(Map<String, Object> allowableValues) {
+        Map<String, Object> copy = new HashMap<String, Object>(allowableValues);
+        for (Map.Entry<String, Object> entry : copy.entrySet()) {
+            if (entry.getValue() instanceof List) {
+                List<Object> values = new ArrayList<Object>();
+                for (Object value : (List<Object>) entry.getValue()) {
+                    values.add(value instanceof Map ? new HashMap<String, Object>((Map<String, Object>) value) : value);
+                }
+                entry.setValue(values);
+            }
+        }
+        return copy;
+    }
+
     /**
      * Determine all of the types in the model definitions (schemas) that are aliases of
      * simple types.
@@ -4864,4 +4932,22 @@ public class DefaultCodegen implements CodegenConfig {
         this.enableMinimalUpdate = enableMinimalUpdate;
     }
 
+    /**
+     * Get the engine rendering the templates of this generator
+     */
+    @Override
+    public TemplatingEngineAdapter getTemplatingEngine() {
+        return templatingEngine;
+    }
+
+    /**
+     * Set the engine rendering the templates of this generator
+     *
+     * @param templatingEngine    the engine, e.g. as loaded by identifier with TemplatingEngineLoader
+     */
+    @Override
+    public void setTemplatingEngine(TemplatingEngineAdapter templatingEngine) {
+        this.templatingEngine = templatingEngine;
+    }
+
 }
@@ -17,8 +17,6 @@
 
 package org.openapitools.codegen;
 
-import com.samskivert.mustache.Mustache;
-import com.samskivert.mustache.Template;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -37,6 +35,8 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.config.GeneratorProperties;
 import org.openapitools.codegen.ignore.CodegenIgnoreProcessor;
+import org.openapitools.codegen.mustache.MemoizingLambda;
+import org.openapitools.codegen.templating.TemplatingGenerator;
 import org.openapitools.codegen.utils.ImplementationVersion;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.utils.URLPathUtils;
@@ -47,6 +47,7 @@ import java.io.*;
 import java.net.URL;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.function.Function;
 
 public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected final Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
@@ -66,6 +67,30 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     private String basePathWithoutHost;
     private String contextPath;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
+    private GenerationSnapshot snapshot;
+    private List<RenderedTemplate> renderedTemplates;
+    // partials included by each template (by full path), recorded while template tracking is enabled
+    private final Map<String, Set<String>> templatePartials = new HashMap<>();
+    private String renderingTemplateFile;
+    private final TemplatingGenerator templatingGenerator = new TemplatingGenerator() {
+        @Override
+        public CodegenConfig getConfig() {
+            return config;
+        }
+
+        @Override
+        public String getFullTemplatePath(String name) {
+            if (renderedTemplates != null && renderingTemplateFile != null) {
+                templatePartials.computeIfAbsent(renderingTemplateFile, k -> new HashSet<String>()).add(name);
+            }
+            return getFullTemplateFile(config, name);
+        }
+
+        @Override
+        public String getFullTemplateContents(String fullPath) {
+            return readTemplate(fullPath);
+        }
+    };
 
     @Override
     public boolean getEnableMinimalUpdate() {
@@ -130,7 +155,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         return defaultValue;
     }
 
-    private void configureGeneratorProperties() {
+    private void configureGeneratorSwitches() {
         // allows generating only models by specifying a CSV of models to generate, or empty for all
         // NOTE: Boolean.TRUE is required below rather than `true` because of JVM boxing constraints and type inference.
         generateApis = GeneratorProperties.getProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
@@ -171,6 +196,10 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (!generateApiTests && !generateModelTests) {
             config.additionalProperties().put(CodegenConstants.EXCLUDE_TESTS, true);
         }
+    }
+
+    private void configureGeneratorProperties() {
+        configureGeneratorSwitches();
 
         if (GeneratorProperties.getProperty("debugOpenAPI") != null) {
             Json.prettyPrint(openAPI);
@@ -322,6 +351,20 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
     }
 
+    private void renderModel(List<File> files, Map<String, Object> models, String modelName) throws IOException {
+        // to generate model files
+        generateModel(files, models, modelName);
+
+        if (generateModelTests) {
+            // to generate model test files
+            generateModelTests(files, models, modelName);
+        }
+        if (generateModelDocumentation) {
+            // to generate model documentation files
+            generateModelDocumentation(files, models, modelName);
+        }
+    }
+
     private void generateModels(List<File> files, List<Object> allModels, List<String> unusedModels) {
         if (!generateModels) {
             return;
@@ -350,11 +393,15 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             modelKeys = updatedKeys;
         }
 
+        // model names of the schemas, converted once rather than on every comparison of the sorted map below
+        final Map<String, String> modelNameCache = new HashMap<String, String>();
+        final Function<String, String> toModelName = name -> modelNameCache.computeIfAbsent(name, config::toModelName);
+
         // store all processed models
         Map<String, Object> allProcessedModels = new TreeMap<String, Object>(new Comparator<String>() {
             @Override
             public int compare(String o1, String o2) {
-                return ObjectUtils.compare(config.toModelName(o1), config.toModelName(o2));
+                return ObjectUtils.compare(toModelName.apply(o1), toModelName.apply(o2));
             }
                 /* TODO need to revise the logic below
 
@@ -451,23 +498,38 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 Map<String, Schema> schemaMap = new HashMap<>();
                 schemaMap.put(name, schema);
                 Map<String, Object> models = processModels(config, schemaMap);
-                models.put("classname", config.toModelName(name));
-                models.putAll(config.additionalProperties());
-                allProcessedModels.put(name, models);
+                models.put("classname", toModelName.apply(name));
+                // additional properties are read through rather than copied, and take precedence as before
+                allProcessedModels.put(name, new TemplateContext(config.additionalProperties()).putAllBeneath(models));
             } catch (Exception e) {
                 throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
             }
         }
 
+        // indexed once for all the hooks below, as long as they pass the graph on
+        allProcessedModels = new ModelGraph(allProcessedModels, toModelName);
+
         // loop through all models to update children models, isSelfReference, isCircularReference, etc
         allProcessedModels = config.updateAllModels(allProcessedModels);
 
         // post process all processed models
         allProcessedModels = config.postProcessAllModels(allProcessedModels);
 
+        boolean lowMemory = isLowMemory();
+        if (lowMemory) {
+            // the generator may have returned a map which does not support removal; the copy keeps its order
+            allProcessedModels = new LinkedHashMap<String, Object>(allProcessedModels);
+        }
+
         // generate files based on processed models
-        for (String modelName : allProcessedModels.keySet()) {
-            Map<String, Object> models = (Map<String, Object>) allProcessedModels.get(modelName);
+        for (Iterator<Map.Entry<String, Object>> it = allProcessedModels.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Object> entry = it.next();
+            String modelName = entry.getKey();
+            Map<String, Object> models = (Map<String, Object>) entry.getValue();
+            if (lowMemory) {
+                // the bundle is not needed once rendered; its model stays reachable through allModels
+                it.remove();
+            }
             models.put("modelPackage", config.modelPackage());
             try {
                 //don't generate models that have an import mapping
@@ -487,17 +549,10 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
                 allModels.add(modelTemplate);
 
-                // to generate model files
-                generateModel(files, models, modelName);
-
-                if (generateModelTests) {
-                    // to generate model test files
-                    generateModelTests(files, models, modelName);
-                }
-                if (generateModelDocumentation) {
-                    // to generate model documentation files
-                    generateModelDocumentation(files, models, modelName);
+                if (snapshot != null) {
+                    snapshot.addModel(modelName, models);
                 }
+                renderModel(files, models, modelName);
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
@@ -507,6 +562,142 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             Json.prettyPrint(allModels);
         }
 
+        if (lowMemory) {
+            releaseModelProperties(allModels);
+        }
+    }
+
+    /**
+     * @return true if the {@link CodegenConstants#LOW_MEMORY} system property is set, and nothing needs to keep the
+     * template data of models after they have been rendered.
+     */
+    private boolean isLowMemory() {
+        if (GeneratorProperties.getProperty(CodegenConstants.LOW_MEMORY) == null) {
+            return false;
+        }
+        if (snapshot != null || renderedTemplates != null || GeneratorProperties.getProperty("debugSupportingFiles") != null) {
+            LOGGER.warn("Ignoring " + CodegenConstants.LOW_MEMORY + ": snapshots, template tracking and debugSupportingFiles need the data of all models");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Drops the property lists of rendered models, which make up most of their size, so that they do not stay in
+     * memory while apis and supporting files are generated. Models keep everything else (names, flags, parent and
+     * children, ...); templates and generators which still iterate their properties fail with an explanation.
+     */
+    private void releaseModelProperties(List<Object> allModels) {
+        for (Object modelTemplate : allModels) {
+            CodegenModel m = (CodegenModel) ((Map<String, Object>) modelTemplate).get("model");
+            if (m == null) {
+                continue;
+            }
+            m.vars = new ReleasedProperties(m.classname);
+            m.allVars = m.vars;
+            m.requiredVars = m.vars;
+            m.optionalVars = m.vars;
+            m.readOnlyVars = m.vars;
+            m.readWriteVars = m.vars;
+            m.parentVars = m.vars;
+        }
+    }
+
+    private class ReleasedProperties extends AbstractList<CodegenProperty> {
+        private final String model;
+
+        private ReleasedProperties(String model) {
+            this.model = model;
+        }
+
+        @Override
+        public CodegenProperty get(int index) {
+            throw released();
+        }
+
+        @Override
+        public int size() {
+            throw released();
+        }
+
+        // identity semantics, so that released models can still be compared, hashed and logged
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return "[released]";
+        }
+
+        private IllegalStateException released() {
+            return new IllegalStateException("The properties of model " + model + " were released after rendering it ("
+                    + CodegenConstants.LOW_MEMORY + "), but generator " + config.getName()
+                    + " still uses them for apis or supporting files; generate without -D" + CodegenConstants.LOW_MEMORY);
+        }
+    }
+
+    private void renderApi(List<File> files, Map<String, Object> operation, String tag) throws IOException {
+        for (String templateName : config.apiTemplateFiles().keySet()) {
+            String filename = config.apiFilename(templateName, tag);
+            if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                LOGGER.info("Skipped overwriting " + filename);
+                continue;
+            }
+
+            File written = processTemplateToFile(operation, templateName, filename);
+            if (written != null) {
+                files.add(written);
+                if (config.isEnablePostProcessFile()) {
+                    config.postProcessFile(written, "api");
+                }
+            }
+        }
+
+        if (generateApiTests) {
+            // to generate api test files
+            for (String templateName : config.apiTestTemplateFiles().keySet()) {
+                String filename = config.apiTestFilename(templateName, tag);
+                // do not overwrite test file that already exists
+                if (new File(filename).exists()) {
+                    LOGGER.info("File exists. Skipped overwriting " + filename);
+                    continue;
+                }
+
+                File written = processTemplateToFile(operation, templateName, filename);
+                if (written != null) {
+                    files.add(written);
+                    if (config.isEnablePostProcessFile()) {
+                        config.postProcessFile(written, "api-test");
+                    }
+                }
+            }
+        }
+
+        if (generateApiDocumentation) {
+            // to generate api documentation files
+            for (String templateName : config.apiDocTemplateFiles().keySet()) {
+                String filename = config.apiDocFilename(templateName, tag);
+                if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                    LOGGER.info("Skipped overwriting " + filename);
+                    continue;
+                }
+
+                File written = processTemplateToFile(operation, templateName, filename);
+                if (written != null) {
+                    files.add(written);
+                    if (config.isEnablePostProcessFile()) {
+                        config.postProcessFile(written, "api-doc");
+                    }
+                }
+            }
+        }
     }
 
     private void generateApis(List<File> files, List<Object> allOperations, List<Object> allModels) {
@@ -528,6 +719,39 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             }
             paths = updatedPaths;
         }
+
+        // values shared by all api files, computed once: those which the additional properties take precedence over...
+        URL url = URLPathUtils.getServerURL(openAPI);
+        Map<String, Object> apiDefaults = new HashMap<String, Object>();
+        apiDefaults.put("basePath", basePath);
+        apiDefaults.put("basePathWithoutHost", config.encodePath(url.getPath()).replaceAll("/$", ""));
+        apiDefaults.put("contextPath", contextPath);
+        apiDefaults.put("apiPackage", config.apiPackage());
+        apiDefaults.put("modelPackage", config.modelPackage());
+
+        // ... and those which take precedence over the additional properties
+        Map<String, Object> apiOverrides = new HashMap<String, Object>();
+        if (allModels == null || allModels.isEmpty()) {
+            apiOverrides.put("hasModel", false);
+        } else {
+            apiOverrides.put("hasModel", true);
+        }
+
+        if (!config.vendorExtensions().isEmpty()) {
+            apiOverrides.put("vendorExtensions", config.vendorExtensions());
+        }
+
+        // Pass sortParamsByRequiredFlag through to the Mustache template...
+        boolean sortParamsByRequiredFlag = true;
+        if (this.config.additionalProperties().containsKey(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG)) {
+            sortParamsByRequiredFlag = Boolean.valueOf(this.config.additionalProperties().get(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG).toString());
+        }
+        apiOverrides.put("sortParamsByRequiredFlag", sortParamsByRequiredFlag);
+
+        // process top-level x-group-parameters
+        boolean isGroupParameters = config.vendorExtensions().containsKey("x-group-parameters")
+                && Boolean.valueOf(config.vendorExtensions().get("x-group-parameters").toString());
+
         for (String tag : paths.keySet()) {
             try {
                 List<CodegenOperation> ops = paths.get(tag);
@@ -537,123 +761,48 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                         return ObjectUtils.compare(one.operationId, another.operationId);
                     }
                 });
-                Map<String, Object> operation = processOperations(config, tag, ops, allModels);
-                URL url = URLPathUtils.getServerURL(openAPI);
-                operation.put("basePath", basePath);
-                operation.put("basePathWithoutHost", config.encodePath(url.getPath()).replaceAll("/$", ""));
-                operation.put("contextPath", contextPath);
-                operation.put("baseName", tag);
-                operation.put("apiPackage", config.apiPackage());
-                operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
+                Map<String, Object> operationData = processOperations(config, tag, ops, allModels);
+                operationData.put("baseName", tag);
+                Map<String, Object> operation = new TemplateContext(apiOverrides, config.additionalProperties(), apiDefaults)
+                        .putAllBeneath(operationData);
                 operation.put("classname", config.toApiName(tag));
                 operation.put("classVarName", config.toApiVarName(tag));
                 operation.put("importPath", config.toApiImport(tag));
                 operation.put("classFilename", config.toApiFilename(tag));
 
-                if (allModels == null || allModels.isEmpty()) {
-                    operation.put("hasModel", false);
-                } else {
-                    operation.put("hasModel", true);
-                }
-
-                if (!config.vendorExtensions().isEmpty()) {
-                    operation.put("vendorExtensions", config.vendorExtensions());
-                }
-
-                // process top-level x-group-parameters
-                if (config.vendorExtensions().containsKey("x-group-parameters")) {
-                    Boolean isGroupParameters = Boolean.valueOf(config.vendorExtensions().get("x-group-parameters").toString());
-
+                if (isGroupParameters) {
                     Map<String, Object> objectMap = (Map<String, Object>) operation.get("operations");
                     @SuppressWarnings("unchecked")
                     List<CodegenOperation> operations = (List<CodegenOperation>) objectMap.get("operation");
                     for (CodegenOperation op : operations) {
-                        if (isGroupParameters && !op.vendorExtensions.containsKey("x-group-parameters")) {
+                        if (!op.vendorExtensions.containsKey("x-group-parameters")) {
                             op.vendorExtensions.put("x-group-parameters", Boolean.TRUE);
                         }
                     }
                 }
 
-                // Pass sortParamsByRequiredFlag through to the Mustache template...
-                boolean sortParamsByRequiredFlag = true;
-                if (this.config.additionalProperties().containsKey(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG)) {
-                    sortParamsByRequiredFlag = Boolean.valueOf(this.config.additionalProperties().get(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG).toString());
-                }
-                operation.put("sortParamsByRequiredFlag", sortParamsByRequiredFlag);
-
                 /* consumes, produces are no longer defined in OAS3.0
                 processMimeTypes(swagger.getConsumes(), operation, "consumes");
                 processMimeTypes(swagger.getProduces(), operation, "produces");
                 */
 
-                allOperations.add(new HashMap<String, Object>(operation));
-                for (int i = 0; i < allOperations.size(); i++) {
-                    Map<String, Object> oo = (Map<String, Object>) allOperations.get(i);
-                    if (i < (allOperations.size() - 1)) {
-                        oo.put("hasMore", "true");
-                    }
-                }
-
-                for (String templateName : config.apiTemplateFiles().keySet()) {
-                    String filename = config.apiFilename(templateName, tag);
-                    if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                        LOGGER.info("Skipped overwriting " + filename);
-                        continue;
-                    }
-
-                    File written = processTemplateToFile(operation, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile()) {
-                            config.postProcessFile(written, "api");
-                        }
-                    }
-                }
-
-                if (generateApiTests) {
-                    // to generate api test files
-                    for (String templateName : config.apiTestTemplateFiles().keySet()) {
-                        String filename = config.apiTestFilename(templateName, tag);
-                        // do not overwrite test file that already exists
-                        if (new File(filename).exists()) {
-                            LOGGER.info("File exists. Skipped overwriting " + filename);
-                            continue;
-                        }
-
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile()) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
-                    }
-                }
-
-                if (generateApiDocumentation) {
-                    // to generate api documentation files
-                    for (String templateName : config.apiDocTemplateFiles().keySet()) {
-                        String filename = config.apiDocFilename(templateName, tag);
-                        if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                            LOGGER.info("Skipped overwriting " + filename);
-                            continue;
-                        }
+                allOperations.add(new TemplateContext(operation));
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile()) {
-                                config.postProcessFile(written, "api-doc");
-                            }
-                        }
-                    }
+                if (snapshot != null) {
+                    snapshot.addApi(tag, operation);
                 }
+                renderApi(files, operation, tag);
 
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+
+        // list positions are only known once all apis have been collected
+        for (int i = 0; i < allOperations.size() - 1; i++) {
+            ((Map<String, Object>) allOperations.get(i)).put("hasMore", "true");
+        }
+
         if (GeneratorProperties.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
@@ -703,21 +852,13 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 }
 
                 if (ignoreProcessor.allowsFile(new File(outputFilename))) {
-                    if (templateFile.endsWith("mustache")) {
-                        String template = readTemplate(templateFile);
-                        Mustache.Compiler compiler = Mustache.compiler();
-                        compiler = config.processCompiler(compiler);
-                        Template tmpl = compiler
-                                .withLoader(new Mustache.TemplateLoader() {
-                                    @Override
-                                    public Reader getTemplate(String name) {
-                                        return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                                    }
-                                })
-                                .defaultValue("")
-                                .compile(template);
-
-                        writeToFile(outputFilename, tmpl.execute(bundle));
+                    if (config.getTemplatingEngine().handles(templateFile)) {
+                        RenderedTemplate rendered = new RenderedTemplate(support.templateFile,
+                                support instanceof GlobalSupportingFile ? templateFile : null, bundle, outputFilename);
+                        writeToFile(outputFilename, renderTemplate(rendered));
+                        if (renderedTemplates != null) {
+                            renderedTemplates.add(rendered);
+                        }
                         File written = new File(outputFilename);
                         files.add(written);
                         if (config.isEnablePostProcessFile()) {
@@ -813,8 +954,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
     private Map<String, Object> buildSupportFileBundle(List<Object> allOperations, List<Object> allModels) {
 
-        Map<String, Object> bundle = new HashMap<String, Object>();
-        bundle.putAll(config.additionalProperties());
+        Map<String, Object> bundle = new TemplateContext(config.additionalProperties());
         bundle.put("apiPackage", config.apiPackage());
 
         Map<String, Object> apis = new HashMap<String, Object>();
@@ -877,6 +1017,20 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     @Override
     public List<File> generate() {
 
+        if (renderedTemplates != null) {
+            renderedTemplates.clear();
+            templatePartials.clear();
+        }
+        if (config != null) {
+            // templates may have changed since a previous run with this configuration
+            config.getTemplatingEngine().clearCache();
+        }
+
+        String renderSnapshot = GeneratorProperties.getProperty(CodegenConstants.RENDER_SNAPSHOT);
+        if (renderSnapshot != null) {
+            return renderSnapshot(new File(renderSnapshot));
+        }
+
         if (openAPI == null) {
             throw new RuntimeException("missing OpenAPI input!");
         }
@@ -885,13 +1039,18 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             throw new RuntimeException("missing config!");
         }
 
-        // resolve inline models
-        InlineModelResolver inlineModelResolver = new InlineModelResolver();
-        inlineModelResolver.flatten(openAPI);
+        // resolve inline models, unless a normalized spec was provided (see SpecNormalizer)
+        if (!SpecNormalizer.unmark(openAPI)) {
+            InlineModelResolver inlineModelResolver = new InlineModelResolver();
+            inlineModelResolver.flatten(openAPI);
+        }
 
         configureGeneratorProperties();
         configureOpenAPIInfo();
 
+        String writeSnapshot = GeneratorProperties.getProperty(CodegenConstants.WRITE_SNAPSHOT);
+        snapshot = writeSnapshot != null ? new GenerationSnapshot(config) : null;
+
         List<File> files = new ArrayList<File>();
         // models
         List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
@@ -906,6 +1065,71 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         generateSupportingFiles(files, bundle);
         config.processOpenAPI(openAPI);
 
+        if (snapshot != null) {
+            snapshot.setSupportingFiles(config.supportingFiles(), bundle);
+            try {
+                snapshot.write(new File(writeSnapshot), config);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not write snapshot '" + writeSnapshot + "'", e);
+            }
+            snapshot = null;
+        }
+
+        logLambdaStatistics();
+
+        // reset GeneratorProperties, so that the running thread can be reused for another generator-run
+        GeneratorProperties.reset();
+
+        return files;
+    }
+
+    /**
+     * Re-renders the templates from a snapshot written by a previous run with the
+     * {@link CodegenConstants#WRITE_SNAPSHOT} system property, skipping parsing and processing of the specification.
+     *
+     * @param snapshotFile the snapshot to render
+     * @return the generated files
+     */
+    private List<File> renderSnapshot(File snapshotFile) {
+        if (config == null) {
+            throw new RuntimeException("missing config!");
+        }
+
+        configureGeneratorSwitches();
+        config.processOpts();
+
+        GenerationSnapshot loaded;
+        try {
+            loaded = GenerationSnapshot.read(snapshotFile, config);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read snapshot '" + snapshotFile + "'", e);
+        }
+
+        List<File> files = new ArrayList<File>();
+        if (generateModels) {
+            for (Map.Entry<String, Map<String, Object>> entry : loaded.getModels().entrySet()) {
+                try {
+                    renderModel(files, entry.getValue(), entry.getKey());
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not generate model '" + entry.getKey() + "'", e);
+                }
+            }
+        }
+        if (generateApis) {
+            for (Map.Entry<String, Map<String, Object>> entry : loaded.getApis().entrySet()) {
+                try {
+                    renderApi(files, entry.getValue(), entry.getKey());
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not generate api file for '" + entry.getKey() + "'", e);
+                }
+            }
+        }
+        config.supportingFiles().clear();
+        config.supportingFiles().addAll(loaded.getSupportingFiles());
+        generateSupportingFiles(files, loaded.getSupportingFileBundle());
+
+        logLambdaStatistics();
+
         // reset GeneratorProperties, so that the running thread can be reused for another generator-run
         GeneratorProperties.reset();
 
@@ -915,21 +1139,11 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename) throws IOException {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         if (ignoreProcessor.allowsFile(new File(adjustedOutputFilename))) {
-            String templateFile = getFullTemplateFile(config, templateName);
-            String template = readTemplate(templateFile);
-            Mustache.Compiler compiler = Mustache.compiler();
-            compiler = config.processCompiler(compiler);
-            Template tmpl = compiler
-                    .withLoader(new Mustache.TemplateLoader() {
-                        @Override
-                        public Reader getTemplate(String name) {
-                            return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                        }
-                    })
-                    .defaultValue("")
-                    .compile(template);
-
-            writeToFile(adjustedOutputFilename, tmpl.execute(templateData));
+            RenderedTemplate rendered = new RenderedTemplate(templateName, null, templateData, adjustedOutputFilename);
+            writeToFile(adjustedOutputFilename, renderTemplate(rendered));
+            if (renderedTemplates != null) {
+                renderedTemplates.add(rendered);
+            }
             return new File(adjustedOutputFilename);
         }
 
@@ -937,6 +1151,81 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         return null;
     }
 
+    private String renderTemplate(RenderedTemplate rendered) throws IOException {
+        renderingTemplateFile = getTemplateFile(rendered);
+        try {
+            return config.getTemplatingEngine().compileTemplate(templatingGenerator, rendered.templateData, renderingTemplateFile);
+        } finally {
+            renderingTemplateFile = null;
+        }
+    }
+
+    private String getTemplateFile(RenderedTemplate rendered) {
+        return rendered.templateFile != null ? rendered.templateFile : getFullTemplateFile(config, rendered.templateName);
+    }
+
+    /**
+     * Renders again every output of the last {@link #generate()} which uses one of the given templates, either
+     * directly or as a partial, reusing the template data of that run. Requires template tracking to have been enabled
+     * with {@link #setTrackTemplates(boolean)} before generating.
+     *
+     * @param changedTemplates template paths relative to the template directory, e.g. <code>model.mustache</code> or
+     *                         <code>libraries/okhttp-gson/api.mustache</code>
+     * @return the files written; empty if no output uses the given templates
+     * @throws IOException if a file could not be written
+     */
+    public List<File> rerender(Collection<String> changedTemplates) throws IOException {
+        if (renderedTemplates == null) {
+            throw new IllegalStateException("template tracking is not enabled");
+        }
+
+        String libraryPrefix = StringUtils.isNotEmpty(config.getLibrary()) ? "libraries/" + config.getLibrary() + "/" : null;
+        Set<String> changed = new HashSet<String>();
+        for (String name : changedTemplates) {
+            String normalized = name.replace(File.separatorChar, '/');
+            if (libraryPrefix != null && normalized.startsWith(libraryPrefix)) {
+                normalized = normalized.substring(libraryPrefix.length());
+            }
+            changed.add(normalized);
+        }
+
+        // templates compiled so far may be outdated
+        config.getTemplatingEngine().clearCache();
+
+        List<File> files = new ArrayList<File>();
+        for (RenderedTemplate rendered : renderedTemplates) {
+            Set<String> partials = templatePartials.get(getTemplateFile(rendered));
+            if (changed.contains(rendered.templateName) || (partials != null && !Collections.disjoint(changed, partials))) {
+                files.add(writeToFile(rendered.outputFilename, renderTemplate(rendered)));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Keep the template data of every rendered output in memory, so that {@link #rerender(Collection)} can render
+     * outputs again when their templates change.
+     *
+     * @param trackTemplates true: track rendered templates, false: do not
+     */
+    public void setTrackTemplates(boolean trackTemplates) {
+        this.renderedTemplates = trackTemplates ? new ArrayList<RenderedTemplate>() : null;
+    }
+
+    private static class RenderedTemplate {
+        private final String templateName;
+        private final String templateFile;
+        private final Map<String, Object> templateData;
+        private final String outputFilename;
+
+        private RenderedTemplate(String templateName, String templateFile, Map<String, Object> templateData, String outputFilename) {
+            this.templateName = templateName;
+            this.templateFile = templateFile;
+            this.templateData = templateData;
+            this.outputFilename = outputFilename;
+        }
+    }
+
     public Map<String, List<CodegenOperation>> processPaths(Paths paths) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<String, List<CodegenOperation>>();
         for (String resourcePath : paths.keySet()) {
@@ -1187,6 +1476,31 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         return authMethods;
     }
 
+    private void logLambdaStatistics() {
+        if (GeneratorProperties.getProperty("debugLambdas") == null) {
+            return;
+        }
+        Map<String, MemoizingLambda> lambdas = new TreeMap<String, MemoizingLambda>();
+        collectLambdas("", config.additionalProperties(), lambdas);
+        LOGGER.info("############ Lambda statistics ############");
+        for (Map.Entry<String, MemoizingLambda> entry : lambdas.entrySet()) {
+            MemoizingLambda lambda = entry.getValue();
+            LOGGER.info(String.format(Locale.ROOT, "%s (%s): %d invocations, %d cache hits, %d ms",
+                    entry.getKey(), lambda.getClass().getSimpleName(), lambda.getInvocations(), lambda.getCacheHits(),
+                    lambda.getMillis()));
+        }
+    }
+
+    private static void collectLambdas(String prefix, Map<?, ?> properties, Map<String, MemoizingLambda> lambdas) {
+        for (Map.Entry<?, ?> entry : properties.entrySet()) {
+            if (entry.getValue() instanceof MemoizingLambda) {
+                lambdas.put(prefix + entry.getKey(), (MemoizingLambda) entry.getValue());
+            } else if (entry.getValue() instanceof Map) {
+                collectLambdas(prefix + entry.getKey() + ".", (Map<?, ?>) entry.getValue(), lambdas);
+            }
+        }
+    }
+
     private boolean hasOAuthMethods(List<CodegenSecurity> authMethods) {
         for (CodegenSecurity cs : authMethods) {
             if (cs.isOAuth) {
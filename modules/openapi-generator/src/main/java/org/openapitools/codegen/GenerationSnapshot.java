@@ -0,0 +1,282 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.samskivert.mustache.Mustache;
+import io.swagger.v3.core.util.Json;
+import org.openapitools.codegen.utils.ImplementationVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The fully processed template data of a generator run: the model, operation and supporting file bundles exactly as
+ * they are handed to the templates, after all post-processing. A snapshot written by one run can be loaded by a later
+ * run of the same generator and version to re-render the templates without parsing the specification or processing
+ * the models again.
+ * <p>
+ * Snapshots use Java serialization so that the object graph (including references between models) is preserved.
+ * Objects which are not serializable are handled as follows: OpenAPI model objects are stored as JSON, the generator
+ * itself is stored as a reference and replaced by the generator of the loading run, and mustache lambdas are replaced
+ * by the lambda of the same class registered with the loading generator, if any. Any other value which is not
+ * serializable fails the snapshot.
+ */
+public class GenerationSnapshot implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationSnapshot.class);
+
+    private final String generatorClass;
+    private final String generatorVersion;
+    private final Map<String, Map<String, Object>> models = new LinkedHashMap<>();
+    private final Map<String, Map<String, Object>> apis = new LinkedHashMap<>();
+    private final List<SupportingFile> supportingFiles = new ArrayList<>();
+    private Map<String, Object> supportingFileBundle;
+
+    public GenerationSnapshot(CodegenConfig config) {
+        this.generatorClass = config.getClass().getName();
+        this.generatorVersion = ImplementationVersion.read();
+    }
+
+    public void addModel(String modelName, Map<String, Object> bundle) {
+        models.put(modelName, bundle);
+    }
+
+    public void addApi(String tag, Map<String, Object> bundle) {
+        apis.put(tag, bundle);
+    }
+
+    public void setSupportingFiles(List<SupportingFile> supportingFiles, Map<String, Object> bundle) {
+        this.supportingFiles.clear();
+        this.supportingFiles.addAll(supportingFiles);
+        this.supportingFileBundle = bundle;
+    }
+
+    /**
+     * @return The model bundles, by model name, in the order they were rendered.
+     */
+    public Map<String, Map<String, Object>> getModels() {
+        return models;
+    }
+
+    /**
+     * @return The operation bundles, by tag, in the order they were rendered.
+     */
+    public Map<String, Map<String, Object>> getApis() {
+        return apis;
+    }
+
+    public List<SupportingFile> getSupportingFiles() {
+        return supportingFiles;
+    }
+
+    public Map<String, Object> getSupportingFileBundle() {
+        return supportingFileBundle;
+    }
+
+    /**
+     * Writes this snapshot as a gzip-compressed serialized stream.
+     *
+     * @param file   The file to write.
+     * @param config The generator which produced the bundles.
+     * @throws IOException if the file could not be written, or a bundle holds a value which cannot be serialized.
+     */
+    public void write(File file, CodegenConfig config) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Unable to create directory " + parent);
+        }
+        try (ObjectOutputStream out = new SnapshotOutputStream(
+                new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(file))), config)) {
+            out.writeObject(this);
+        } catch (IOException e) {
+            // do not leave a truncated snapshot behind for a later run to trip over
+            file.delete();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(File, CodegenConfig)}.
+     *
+     * @param file   The file to read.
+     * @param config The generator which will render the bundles; must be of the same class as the one which wrote the
+     *               snapshot, and have had its options processed.
+     * @return The snapshot.
+     * @throws IOException if the file could not be read, or was written by a different generator or version.
+     */
+    public static GenerationSnapshot read(File file, CodegenConfig config) throws IOException {
+        GenerationSnapshot snapshot;
+        try (ObjectInputStream in = new SnapshotInputStream(
+                new GZIPInputStream(new BufferedInputStream(new FileInputStream(file))), config)) {
+            snapshot = (GenerationSnapshot) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException | InvalidClassException e) {
+            throw new IOException("Snapshot " + file + " is not compatible with this version of OpenAPI Generator; "
+                    + "please regenerate it", e);
+        }
+        if (!config.getClass().getName().equals(snapshot.generatorClass)) {
+            throw new IOException("Snapshot " + file + " was written by " + snapshot.generatorClass
+                    + ", not " + config.getClass().getName());
+        }
+        if (!Objects.equals(ImplementationVersion.read(), snapshot.generatorVersion)) {
+            throw new IOException("Snapshot " + file + " was written by OpenAPI Generator "
+                    + snapshot.generatorVersion + "; please regenerate it");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Stands in for the generator in the serialized stream.
+     */
+    private static final class ConfigReference implements Serializable {
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * Stands in for a non-serializable mustache lambda in the serialized stream.
+     */
+    private static final class LambdaReference implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String className;
+
+        private LambdaReference(String className) {
+            this.className = className;
+        }
+    }
+
+    /**
+     * Stands in for an OpenAPI model object in the serialized stream.
+     */
+    private static final class JsonValue implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String className;
+        private final String json;
+
+        private JsonValue(String className, String json) {
+            this.className = className;
+            this.json = json;
+        }
+    }
+
+    private static final class SnapshotOutputStream extends ObjectOutputStream {
+        private final CodegenConfig config;
+
+        private SnapshotOutputStream(OutputStream out, CodegenConfig config) throws IOException {
+            super(out);
+            this.config = config;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            if (obj == config) {
+                return new ConfigReference();
+            }
+            if (obj instanceof Serializable) {
+                return obj;
+            }
+            if (obj instanceof Mustache.Lambda) {
+                return new LambdaReference(obj.getClass().getName());
+            }
+            if (obj.getClass().getName().startsWith("io.swagger.")) {
+                return new JsonValue(obj.getClass().getName(), Json.mapper().writeValueAsString(obj));
+            }
+            if (obj instanceof Comparator) {
+                // sorted collections are read back in their serialized order, so comparators can safely be dropped
+                return null;
+            }
+            // rendering without the value would silently produce different output
+            throw new NotSerializableException(obj.getClass().getName());
+        }
+    }
+
+    private static final class SnapshotInputStream extends ObjectInputStream {
+        private final CodegenConfig config;
+
+        private SnapshotInputStream(InputStream in, CodegenConfig config) throws IOException {
+            super(in);
+            this.config = config;
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) throws IOException {
+            if (obj instanceof ConfigReference) {
+                return config;
+            }
+            if (obj instanceof LambdaReference) {
+                return resolveLambda(((LambdaReference) obj).className);
+            }
+            if (obj instanceof JsonValue) {
+                JsonValue value = (JsonValue) obj;
+                try {
+                    return Json.mapper().readValue(value.json, Class.forName(value.className));
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Unable to restore value of type " + value.className, e);
+                }
+            }
+            return obj;
+        }
+
+        private Mustache.Lambda resolveLambda(String className) {
+            Mustache.Lambda lambda = findLambda(config.additionalProperties(), className);
+            if (lambda == null) {
+                LOGGER.warn("Mustache lambda " + className + " is not available when rendering a snapshot; "
+                        + "its sections will be rendered unchanged");
+                lambda = (frag, out) -> frag.execute(out);
+            }
+            return lambda;
+        }
+
+        private static Mustache.Lambda findLambda(Map<?, ?> properties, String className) {
+            for (Object value : properties.values()) {
+                if (value instanceof Mustache.Lambda && value.getClass().getName().equals(className)) {
+                    return (Mustache.Lambda) value;
+                } else if (value instanceof Map) {
+                    Mustache.Lambda lambda = findLambda((Map<?, ?>) value, className);
+                    if (lambda != null) {
+                        return lambda;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
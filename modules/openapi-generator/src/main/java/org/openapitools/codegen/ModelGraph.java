@@ -0,0 +1,297 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The processed models of a generator run, as passed to {@link CodegenConfig#updateAllModels(Map)} and
+ * {@link CodegenConfig#postProcessAllModels(Map)}: a map from schema name to the model bundle (the
+ * <code>models</code> list of <code>model</code>/<code>importPath</code> maps rendered by the templates), which also
+ * indexes the models so that post-processing hooks do not each unwrap the bundles again.
+ * <p>
+ * The indexes are built on first use, and rebuilt after bundles are added or removed through the map. Hooks which
+ * change the parent, interfaces or flags of models should call {@link #refresh()} before querying the graph again.
+ * Use {@link #of(Map, Function)} in hooks, since the map passed to them is not necessarily a graph (e.g. when another
+ * hook returned a new map).
+ */
+public class ModelGraph extends AbstractMap<String, Object> {
+    private final Map<String, Object> bundles;
+    private final Function<String, String> toModelName;
+    private Index index;
+
+    /**
+     * @param bundles     The model bundles by schema name; the graph is a view of this map.
+     * @param toModelName Maps schema names to model names, as referenced by {@link CodegenModel#parent} and
+     *                    {@link CodegenModel#interfaces} (usually {@link CodegenConfig#toModelName(String)}).
+     */
+    public ModelGraph(Map<String, Object> bundles, Function<String, String> toModelName) {
+        this.bundles = bundles;
+        this.toModelName = toModelName;
+    }
+
+    /**
+     * @param bundles     The model bundles by schema name.
+     * @param toModelName Maps schema names to model names.
+     * @return The bundles if they are a graph already, else a graph over them.
+     */
+    public static ModelGraph of(Map<String, Object> bundles, Function<String, String> toModelName) {
+        return bundles instanceof ModelGraph ? (ModelGraph) bundles : new ModelGraph(bundles, toModelName);
+    }
+
+    /**
+     * Discards the indexes, so that they are built again from the current state of the models.
+     */
+    public void refresh() {
+        index = null;
+    }
+
+    /**
+     * @param schemaName The name of a schema, i.e. a key of this map.
+     * @return The model of the schema, or null.
+     */
+    public CodegenModel getModel(String schemaName) {
+        return index().bySchemaName.get(schemaName);
+    }
+
+    /**
+     * @param modelName The name of a model, as referenced by {@link CodegenModel#parent}.
+     * @return The model, or null.
+     */
+    public CodegenModel getModelByName(String modelName) {
+        return modelName == null ? null : index().byModelName.get(modelName);
+    }
+
+    /**
+     * @return All models by model name.
+     */
+    public Map<String, CodegenModel> getModelsByName() {
+        return Collections.unmodifiableMap(index().byModelName);
+    }
+
+    /**
+     * @return All models, in the order of the bundles.
+     */
+    public Collection<CodegenModel> getModels() {
+        return Collections.unmodifiableCollection(index().bySchemaName.values());
+    }
+
+    /**
+     * @return The <code>model</code>/<code>importPath</code> maps of all bundles, in order; templates see what is put
+     * into them.
+     */
+    public List<Map<String, Object>> getModelTemplates() {
+        return Collections.unmodifiableList(index().modelTemplates);
+    }
+
+    /**
+     * @param model A model of this graph.
+     * @return The models naming it as their parent (not their descendants); empty if none.
+     */
+    public List<CodegenModel> getChildren(CodegenModel model) {
+        List<CodegenModel> children = index().children.get(model);
+        return children != null ? Collections.unmodifiableList(children) : Collections.<CodegenModel>emptyList();
+    }
+
+    /**
+     * @param model A model of this graph.
+     * @return The models of the interfaces it implements which are part of this graph.
+     */
+    public List<CodegenModel> getInterfaceModels(CodegenModel model) {
+        List<CodegenModel> interfaces = new ArrayList<CodegenModel>();
+        if (model.interfaces != null) {
+            for (String name : model.interfaces) {
+                CodegenModel interfaceModel = getModelByName(name);
+                if (interfaceModel != null) {
+                    interfaces.add(interfaceModel);
+                }
+            }
+        }
+        return interfaces;
+    }
+
+    /**
+     * @return The enum models by schema name.
+     */
+    public Map<String, CodegenModel> getEnums() {
+        return Collections.unmodifiableMap(index().enums);
+    }
+
+    /**
+     * @return The alias models by schema name.
+     */
+    public Map<String, CodegenModel> getAliases() {
+        return Collections.unmodifiableMap(index().aliases);
+    }
+
+    /**
+     * @return All models, each after its parent and interfaces (when they are part of the graph); models within a
+     * cycle are ordered as they are reached.
+     */
+    public List<CodegenModel> getTopologicalOrder() {
+        Index idx = index();
+        if (idx.topologicalOrder == null) {
+            List<CodegenModel> order = new ArrayList<CodegenModel>(idx.bySchemaName.size());
+            Set<CodegenModel> visited = Collections.newSetFromMap(new IdentityHashMap<CodegenModel, Boolean>());
+            for (CodegenModel model : idx.bySchemaName.values()) {
+                visit(model, visited, order);
+            }
+            idx.topologicalOrder = order;
+        }
+        return Collections.unmodifiableList(idx.topologicalOrder);
+    }
+
+    private void visit(CodegenModel model, Set<CodegenModel> visited, List<CodegenModel> order) {
+        if (!visited.add(model)) {
+            return;
+        }
+        CodegenModel parent = getModelByName(model.parent);
+        if (parent != null) {
+            visit(parent, visited, order);
+        }
+        for (CodegenModel interfaceModel : getInterfaceModels(model)) {
+            visit(interfaceModel, visited, order);
+        }
+        order.add(model);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Index index() {
+        if (index == null) {
+            Index idx = new Index();
+            for (Entry<String, Object> entry : bundles.entrySet()) {
+                List<Map<String, Object>> models = (List<Map<String, Object>>) ((Map<String, Object>) entry.getValue()).get("models");
+                if (models == null) {
+                    continue;
+                }
+                for (Map<String, Object> modelTemplate : models) {
+                    CodegenModel model = (CodegenModel) modelTemplate.get("model");
+                    if (model == null) {
+                        continue;
+                    }
+                    idx.modelTemplates.add(modelTemplate);
+                    if (!idx.bySchemaName.containsKey(entry.getKey())) {
+                        idx.bySchemaName.put(entry.getKey(), model);
+                    }
+                    idx.byModelName.put(toModelName.apply(entry.getKey()), model);
+                    if (model.isEnum) {
+                        idx.enums.put(entry.getKey(), model);
+                    }
+                    if (model.isAlias) {
+                        idx.aliases.put(entry.getKey(), model);
+                    }
+                }
+            }
+            for (CodegenModel model : idx.bySchemaName.values()) {
+                CodegenModel parent = model.parent != null ? idx.byModelName.get(model.parent) : null;
+                if (parent != null) {
+                    idx.children.computeIfAbsent(parent, p -> new ArrayList<CodegenModel>()).add(model);
+                }
+            }
+            index = idx;
+        }
+        return index;
+    }
+
+    @Override
+    public Object get(Object key) {
+        return bundles.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return bundles.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        index = null;
+        return bundles.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        index = null;
+        return bundles.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        index = null;
+        bundles.clear();
+    }
+
+    @Override
+    public int size() {
+        return bundles.size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                final Iterator<Entry<String, Object>> entries = bundles.entrySet().iterator();
+                return new Iterator<Entry<String, Object>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        return entries.next();
+                    }
+
+                    @Override
+                    public void remove() {
+                        index = null;
+                        entries.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return bundles.size();
+            }
+        };
+    }
+
+    private static final class Index {
+        private final Map<String, CodegenModel> bySchemaName = new LinkedHashMap<String, CodegenModel>();
+        // a plain HashMap, so that hooks iterating it see models in the order they always have
+        private final Map<String, CodegenModel> byModelName = new HashMap<String, CodegenModel>();
+        private final List<Map<String, Object>> modelTemplates = new ArrayList<Map<String, Object>>();
+        private final Map<CodegenModel, List<CodegenModel>> children = new IdentityHashMap<CodegenModel, List<CodegenModel>>();
+        private final Map<String, CodegenModel> enums = new LinkedHashMap<String, CodegenModel>();
+        private final Map<String, CodegenModel> aliases = new LinkedHashMap<String, CodegenModel>();
+        private List<CodegenModel> topologicalOrder;
+    }
+}
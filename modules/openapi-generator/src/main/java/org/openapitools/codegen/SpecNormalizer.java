@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Normalizes a parsed (and ref-resolved) OpenAPI document so that it can be handed to any number of generators
+ * without repeating the work: inline schemas are flattened into named component schemas. A normalized document is
+ * marked with the {@link #NORMALIZED_EXTENSION} extension and may be persisted as gzip-compressed JSON, from which it
+ * is loaded directly without going through the parser again.
+ */
+public class SpecNormalizer {
+    /**
+     * Top level extension marking a document which has already been normalized.
+     */
+    public static final String NORMALIZED_EXTENSION = "x-openapi-generator-normalized";
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private SpecNormalizer() {
+    }
+
+    /**
+     * Flattens the inline schemas of a document in place and marks it as normalized. Does nothing if the document
+     * is already normalized.
+     *
+     * @param openAPI The document to normalize.
+     * @return <code>openAPI</code>, for chaining.
+     */
+    public static OpenAPI normalize(OpenAPI openAPI) {
+        if (!isNormalized(openAPI)) {
+            new InlineModelResolver().flatten(openAPI);
+            openAPI.addExtension(NORMALIZED_EXTENSION, Boolean.TRUE);
+        }
+        return openAPI;
+    }
+
+    /**
+     * @param openAPI The document to check.
+     * @return <code>true</code> if the document carries the {@link #NORMALIZED_EXTENSION} marker.
+     */
+    public static boolean isNormalized(OpenAPI openAPI) {
+        Map<String, Object> extensions = openAPI.getExtensions();
+        return extensions != null && Boolean.TRUE.equals(extensions.get(NORMALIZED_EXTENSION));
+    }
+
+    /**
+     * Removes the {@link #NORMALIZED_EXTENSION} marker, so that it does not leak into generated output.
+     *
+     * @param openAPI The document to unmark.
+     * @return <code>true</code> if the document was marked as normalized.
+     */
+    public static boolean unmark(OpenAPI openAPI) {
+        Map<String, Object> extensions = openAPI.getExtensions();
+        if (extensions == null || !Boolean.TRUE.equals(extensions.remove(NORMALIZED_EXTENSION))) {
+            return false;
+        }
+        if (extensions.isEmpty()) {
+            openAPI.setExtensions(null);
+        }
+        return true;
+    }
+
+    /**
+     * Writes a document as gzip-compressed JSON.
+     *
+     * @param openAPI The document to write, normally one returned by {@link #normalize(OpenAPI)}.
+     * @param file    The file to write.
+     * @throws IOException if the file could not be written.
+     */
+    public static void write(OpenAPI openAPI, File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Unable to create directory " + parent);
+        }
+        try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            Json.mapper().writeValue(out, openAPI);
+        }
+    }
+
+    /**
+     * Reads a document written by {@link #write(OpenAPI, File)}.
+     *
+     * @param file The file to read.
+     * @return The document.
+     * @throws IOException if the file could not be read or does not contain an OpenAPI document.
+     */
+    public static OpenAPI read(File file) throws IOException {
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            return Json.mapper().readValue(in, OpenAPI.class);
+        }
+    }
+
+    /**
+     * Checks whether a location refers to a local file written by {@link #write(OpenAPI, File)}, by looking for the
+     * gzip header; textual specifications never start with it.
+     *
+     * @param location The input specification location: a file path or a URL.
+     * @return <code>true</code> if the location is a local gzip-compressed file.
+     */
+    public static boolean isNormalizedFile(String location) {
+        if (location == null) {
+            return false;
+        }
+        File file = new File(location);
+        if (!file.isFile()) {
+            return false;
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            int b1 = in.read();
+            int b2 = in.read();
+            return b1 != -1 && b2 != -1 && ((b2 << 8) | b1) == GZIP_MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
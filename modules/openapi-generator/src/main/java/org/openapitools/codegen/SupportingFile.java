@@ -17,9 +17,10 @@
 
 package org.openapitools.codegen;
 
+import java.io.Serializable;
 import java.util.Objects;
 
-public class SupportingFile {
+public class SupportingFile implements Serializable {
     public String templateFile;
     public String folder;
     public String destinationFilename;
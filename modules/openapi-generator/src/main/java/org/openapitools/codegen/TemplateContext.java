@@ -0,0 +1,229 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The data of a single template: a map holding the values specific to the rendered file, which reads through to
+ * shared scopes (such as the generator's additional properties) instead of copying them. Values put into the context
+ * shadow those of the scopes, which are searched in the order given; removing a key hides it from the scopes too.
+ * The scopes themselves are never modified, and changes made to them are visible through every context using them.
+ * <p>
+ * Lookups through {@link #get(Object)} and {@link #containsKey(Object)} take time proportional to the number of
+ * scopes; iterating the context or computing its size visits the entries of all scopes.
+ */
+public class TemplateContext extends AbstractMap<String, Object> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, Object> local = new HashMap<>();
+    private final Set<Object> removed = new HashSet<>();
+    private final List<Map<String, Object>> scopes;
+
+    /**
+     * @param scopes The maps to read through to, highest precedence first.
+     */
+    @SafeVarargs
+    public TemplateContext(Map<String, Object>... scopes) {
+        this.scopes = new ArrayList<>(Arrays.asList(scopes));
+    }
+
+    /**
+     * Adds entries which the scopes take precedence over, as if the entries had been put into a map before the
+     * scopes were copied into it: entries whose key is defined by a scope are left out.
+     *
+     * @param entries The entries to add.
+     * @return this context, for chaining.
+     */
+    public TemplateContext putAllBeneath(Map<String, Object> entries) {
+        for (Entry<String, Object> entry : entries.entrySet()) {
+            if (!inScopes(entry.getKey())) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return The maps this context reads through to, highest precedence first.
+     */
+    public List<Map<String, Object>> getScopes() {
+        return Collections.unmodifiableList(scopes);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (local.containsKey(key)) {
+            return local.get(key);
+        }
+        if (removed.contains(key)) {
+            return null;
+        }
+        for (Map<String, Object> scope : scopes) {
+            if (scope.containsKey(key)) {
+                return scope.get(key);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return local.containsKey(key) || (!removed.contains(key) && inScopes(key));
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        removed.remove(key);
+        local.put(key, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        local.remove(key);
+        if (inScopes(key)) {
+            removed.add(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        for (Map<String, Object> scope : scopes) {
+            removed.addAll(scope.keySet());
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                final Iterator<String> keys = keys().iterator();
+                return new Iterator<Entry<String, Object>>() {
+                    private String current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        current = keys.next();
+                        return new ContextEntry(current);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+                        TemplateContext.this.remove(current);
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys().size();
+            }
+        };
+    }
+
+    private boolean inScopes(Object key) {
+        for (Map<String, Object> scope : scopes) {
+            if (scope.containsKey(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> keys() {
+        Set<String> keys = new LinkedHashSet<>(local.keySet());
+        for (Map<String, Object> scope : scopes) {
+            for (String key : scope.keySet()) {
+                if (!removed.contains(key)) {
+                    keys.add(key);
+                }
+            }
+        }
+        return keys;
+    }
+
+    private final class ContextEntry implements Entry<String, Object> {
+        private final String key;
+
+        private ContextEntry(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            Object value = getValue();
+            return key.equals(other.getKey()) && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
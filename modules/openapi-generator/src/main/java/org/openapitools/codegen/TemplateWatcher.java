@@ -0,0 +1,281 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Yaml;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regenerates output whenever the input specification, a file it references or a file in the template directory
+ * changes, for use while developing custom templates. The processed template data of the last full generation is kept
+ * in memory: when only templates change, just the outputs rendered from those templates (directly or through partials)
+ * are rendered again. Any change in the directory of the specification or of a file it references through an external
+ * <code>$ref</code>, to a template no output uses, or to another file of the template directory triggers a full
+ * generation. Hidden files and editor backup or swap files are ignored.
+ */
+public class TemplateWatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TemplateWatcher.class);
+
+    // changes arriving within this interval of each other are handled together, as editors often write several times
+    private static final long SETTLE_MILLIS = 200;
+
+    private final CodegenConfigurator configurator;
+    private DefaultGenerator generator;
+
+    public TemplateWatcher(CodegenConfigurator configurator) {
+        this.configurator = configurator;
+    }
+
+    /**
+     * Runs a full generation, keeping its template data for later partial re-rendering.
+     *
+     * @return the generated files
+     */
+    public List<File> generate() {
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setTrackTemplates(true);
+        List<File> files = generator.opts(configurator.toClientOptInput()).generate();
+        this.generator = generator;
+        return files;
+    }
+
+    /**
+     * Generates, then watches for changes until the thread is interrupted.
+     *
+     * @throws IOException          if the files cannot be watched
+     * @throws InterruptedException if the thread is interrupted while waiting for changes
+     */
+    public void watch() throws IOException, InterruptedException {
+        if (generator == null) {
+            generate();
+        }
+
+        Path templateDir = configurator.getTemplateDir() != null
+                ? Paths.get(configurator.getTemplateDir()).toAbsolutePath().normalize() : null;
+        Path spec = null;
+        if (configurator.getInputSpec() != null && new File(configurator.getInputSpec()).isFile()) {
+            spec = Paths.get(configurator.getInputSpec()).toAbsolutePath().normalize();
+        }
+
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            Map<WatchKey, Path> directories = new HashMap<>();
+            Set<Path> specDirectories = new HashSet<>();
+            if (templateDir != null && Files.isDirectory(templateDir)) {
+                registerAll(watchService, templateDir, directories);
+            }
+            if (spec != null) {
+                registerSpecDirectories(watchService, spec, specDirectories, directories);
+            }
+            if (directories.isEmpty()) {
+                LOGGER.warn("Nothing to watch: neither the input spec nor the template directory is a local path");
+                return;
+            }
+            LOGGER.info("Watching for changes to {}{}", spec != null ? spec : "",
+                    templateDir != null ? " and " + templateDir : "");
+
+            while (true) {
+                WatchKey key = watchService.take();
+                Set<Path> changed = new LinkedHashSet<>();
+                boolean overflow = false;
+                do {
+                    overflow |= collect(watchService, key, templateDir, directories, changed);
+                    key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                } while (key != null);
+                boolean full = overflow;
+                List<String> templates = new ArrayList<>();
+                for (Path path : changed) {
+                    if (isIgnored(path) || Files.isDirectory(path)) {
+                        continue;
+                    }
+                    if (templateDir != null && path.startsWith(templateDir)) {
+                        // only templates can be re-rendered: other supporting files are copied by a full generation
+                        if (generator.config.getTemplatingEngine().handles(path.toString())) {
+                            templates.add(templateDir.relativize(path).toString());
+                        } else {
+                            full = true;
+                        }
+                    } else if (specDirectories.contains(path.getParent())) {
+                        full = true;
+                    }
+                }
+                regenerate(templates, full);
+                if (full && spec != null) {
+                    // the specification may now reference files in other directories
+                    registerSpecDirectories(watchService, spec, specDirectories, directories);
+                }
+            }
+        }
+    }
+
+    private void regenerate(List<String> templates, boolean full) {
+        if (!full && templates.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (!full) {
+                List<File> files = generator.rerender(templates);
+                if (!files.isEmpty()) {
+                    LOGGER.info("Re-rendered {} file(s) after changes to {}", files.size(), templates);
+                    return;
+                }
+            }
+            List<File> files = generate();
+            LOGGER.info("Regenerated {} file(s)", files.size());
+        } catch (IOException | RuntimeException e) {
+            // keep watching, so that a broken template or spec can be fixed
+            LOGGER.error("Generation failed: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean collect(WatchService watchService, WatchKey key, Path templateDir, Map<WatchKey, Path> directories,
+                                   Set<Path> changed) throws IOException {
+        boolean overflow = false;
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context());
+            changed.add(path);
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && templateDir != null
+                    && path.startsWith(templateDir) && Files.isDirectory(path)) {
+                registerAll(watchService, path, directories);
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+        return overflow;
+    }
+
+    /**
+     * @param path a changed file
+     * @return true if the file is hidden, or a backup or swap file of an editor
+     */
+    static boolean isIgnored(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(".") || name.endsWith("~") || name.endsWith(".swp") || name.endsWith(".swx")
+                || name.endsWith(".bak") || (name.startsWith("#") && name.endsWith("#"));
+    }
+
+    private static void registerSpecDirectories(WatchService watchService, Path spec, Set<Path> specDirectories,
+                                                Map<WatchKey, Path> directories) throws IOException {
+        for (Path file : referencedFiles(spec)) {
+            if (specDirectories.add(file.getParent())) {
+                register(watchService, file.getParent(), directories);
+            }
+        }
+    }
+
+    /**
+     * Finds the local files making up a specification, following external <code>$ref</code>s transitively.
+     *
+     * @param spec the specification file
+     * @return the specification file and the existing local files it references
+     */
+    static Set<Path> referencedFiles(Path spec) {
+        Set<Path> files = new LinkedHashSet<>();
+        Set<Path> visited = new HashSet<>();
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.add(spec);
+        while (!pending.isEmpty()) {
+            Path file = pending.pop();
+            if (!visited.add(file) || !Files.isRegularFile(file)) {
+                continue;
+            }
+            files.add(file);
+            try {
+                // YAML is a superset of JSON, so this reads either
+                collectReferences(Yaml.mapper().readTree(file.toFile()), file.getParent(), pending);
+            } catch (IOException e) {
+                LOGGER.debug("Unable to read {} for external references: {}", file, e.getMessage());
+            }
+        }
+        return files;
+    }
+
+    private static void collectReferences(JsonNode node, Path baseDir, Deque<Path> pending) {
+        if (node == null) {
+            return;
+        }
+        JsonNode ref = node.isObject() ? node.get("$ref") : null;
+        if (ref != null && ref.isTextual()) {
+            String location = ref.asText();
+            int fragment = location.indexOf('#');
+            if (fragment >= 0) {
+                location = location.substring(0, fragment);
+            }
+            // remote references cannot be watched
+            if (!location.isEmpty() && !location.contains(":/")) {
+                try {
+                    pending.add(baseDir.resolve(location).normalize());
+                } catch (InvalidPathException e) {
+                    LOGGER.debug("Ignoring reference {}: {}", location, e.getMessage());
+                }
+            }
+        }
+        for (JsonNode child : node) {
+            collectReferences(child, baseDir, pending);
+        }
+    }
+
+    private static void registerAll(final WatchService watchService, Path root, final Map<WatchKey, Path> directories) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                register(watchService, dir, directories);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void register(WatchService watchService, Path directory, Map<WatchKey, Path> directories) throws IOException {
+        WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        directories.put(key, directory);
+    }
+}
@@ -47,6 +47,7 @@ import org.openapitools.codegen.ClientOpts;
 import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.SpecNormalizer;
 import org.openapitools.codegen.SpecValidationException;
 import org.openapitools.codegen.auth.AuthParser;
 import org.openapitools.codegen.languages.CSharpNancyFXServerCodegen;
@@ -61,6 +62,7 @@ import org.openapitools.codegen.languages.RubySinatraServerCodegen;
 import org.openapitools.codegen.languages.ScalaAkkaClientCodegen;
 import org.openapitools.codegen.languages.ScalaHttpClientCodegen;
 import org.openapitools.codegen.languages.SwiftClientCodegen;
+import org.openapitools.codegen.templating.TemplatingEngineLoader;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -104,6 +106,7 @@ public class CodegenConfigurator implements Serializable {
     private boolean enableMinimalUpdate;
     private String templateDir;
     private String auth;
+    private Boolean generateAliasAsModel;
     private String apiPackage;
     private String modelPackage;
     private String invokerPackage;
@@ -113,6 +116,7 @@ public class CodegenConfigurator implements Serializable {
     private String artifactId;
     private String artifactVersion;
     private String library;
+    private String templatingEngineName;
     private String ignoreFileOverride;
     private Map<String, String> systemProperties = new HashMap<String, String>();
     private Map<String, String> instantiationTypes = new HashMap<String, String>();
@@ -250,10 +254,11 @@ public class CodegenConfigurator implements Serializable {
     }
 
     public boolean isGenerateAliasAsModel() {
-        return ModelUtils.isGenerateAliasAsModel();
+        return generateAliasAsModel != null ? generateAliasAsModel : ModelUtils.isGenerateAliasAsModel();
     }
 
     public CodegenConfigurator setGenerateAliasAsModel(boolean generateAliasAsModel) {
+        this.generateAliasAsModel = generateAliasAsModel;
         ModelUtils.setGenerateAliasAsModel(generateAliasAsModel);
         return this;
     }
@@ -480,6 +485,15 @@ public class CodegenConfigurator implements Serializable {
         return this;
     }
 
+    public String getTemplatingEngineName() {
+        return templatingEngineName;
+    }
+
+    public CodegenConfigurator setTemplatingEngineName(String templatingEngineName) {
+        this.templatingEngineName = templatingEngineName;
+        return this;
+    }
+
     public String getGitUserId() {
         return gitUserId;
     }
@@ -540,12 +554,42 @@ public class CodegenConfigurator implements Serializable {
     }
 
     public ClientOptInput toClientOptInput() {
+        ClientOptInput input = configure();
+
+        if (GeneratorProperties.getProperty(CodegenConstants.RENDER_SNAPSHOT) != null) {
+            // templates are rendered from the snapshot of a previous run, which needs no spec
+            input.opts(new ClientOpts());
+            return input;
+        }
+
+        input.opts(new ClientOpts()).openAPI(readInputSpec());
+
+        return input;
+    }
+
+    /**
+     * Like {@link #toClientOptInput()}, but uses an already parsed document instead of reading the input spec, e.g. to
+     * run several generators on one spec. The document is modified by the generator, so each run needs its own.
+     *
+     * @param openAPI The document to generate from.
+     * @return The input for the generator.
+     */
+    public ClientOptInput toClientOptInput(OpenAPI openAPI) {
+        ClientOptInput input = configure();
+        input.opts(new ClientOpts()).openAPI(openAPI);
+        return input;
+    }
 
+    private ClientOptInput configure() {
         Validate.notEmpty(generatorName, "language/generatorName must be specified");
         Validate.notEmpty(inputSpec, "input spec must be specified");
 
         setVerboseFlags();
         setSystemProperties();
+        if (generateAliasAsModel != null) {
+            // the setting is per thread, which may not be the one this configurator was set up on
+            ModelUtils.setGenerateAliasAsModel(generateAliasAsModel);
+        }
 
         CodegenConfig config = CodegenConfigLoader.forName(generatorName);
 
@@ -584,9 +628,32 @@ public class CodegenConfigurator implements Serializable {
             config.setLibrary(library);
         }
 
+        if (isNotEmpty(templatingEngineName)) {
+            config.setTemplatingEngine(TemplatingEngineLoader.byIdentifier(templatingEngineName));
+        }
+
         config.additionalProperties().putAll(additionalProperties);
 
-        ClientOptInput input = new ClientOptInput().config(config);
+        return new ClientOptInput().config(config);
+    }
+
+    /**
+     * Reads, resolves and (unless disabled) validates the input spec.
+     *
+     * @return The parsed document.
+     * @throws SpecValidationException if the spec is invalid and validation is enabled.
+     */
+    public OpenAPI readInputSpec() {
+        Validate.notEmpty(inputSpec, "input spec must be specified");
+
+        if (SpecNormalizer.isNormalizedFile(inputSpec)) {
+            // already parsed, validated and flattened by the normalize stage
+            try {
+                return SpecNormalizer.read(new File(inputSpec));
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read normalized spec " + inputSpec, e);
+            }
+        }
 
         final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
         ParseOptions options = new ParseOptions();
@@ -635,9 +702,7 @@ public class CodegenConfigurator implements Serializable {
             }
         }
 
-        input.opts(new ClientOpts()).openAPI(specification);
-
-        return input;
+        return specification;
     }
 
     @JsonAnySetter public CodegenConfigurator addDynamicProperty(String name, Object value) {
@@ -668,12 +733,14 @@ public class CodegenConfigurator implements Serializable {
                 + "\n - [debugOpenAPI] prints the OpenAPI specification as interpreted by the codegen"
                 + "\n - [debugModels] prints models passed to the template engine"
                 + "\n - [debugOperations] prints operations passed to the template engine"
-                + "\n - [debugSupportingFiles] prints additional data passed to the template engine");
+                + "\n - [debugSupportingFiles] prints additional data passed to the template engine"
+                + "\n - [debugLambdas] prints invocation counts and timings of the template lambdas");
 
         GeneratorProperties.setProperty("debugOpenAPI", "");
         GeneratorProperties.setProperty("debugModels", "");
         GeneratorProperties.setProperty("debugOperations", "");
         GeneratorProperties.setProperty("debugSupportingFiles", "");
+        GeneratorProperties.setProperty("debugLambdas", "");
     }
 
     private void setSystemProperties() {
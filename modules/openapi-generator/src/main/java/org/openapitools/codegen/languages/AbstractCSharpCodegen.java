@@ -440,17 +440,12 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegen implements Co
      */
     @SuppressWarnings({"unchecked"})
     private void postProcessEnumRefs(final Map<String, Object> models) {
-        Map<String, CodegenModel> enumRefs = new HashMap<String, CodegenModel>();
-        for (Map.Entry<String, Object> entry : models.entrySet()) {
-            CodegenModel model = ModelUtils.getModelByName(entry.getKey(), models);
-            if (model.isEnum) {
-                enumRefs.put(entry.getKey(), model);
-            }
-        }
+        ModelGraph graph = ModelGraph.of(models, this::toModelName);
+        Map<String, CodegenModel> enumRefs = graph.getEnums();
 
         for (Map.Entry<String, Object> entry : models.entrySet()) {
             String openAPIName = entry.getKey();
-            CodegenModel model = ModelUtils.getModelByName(openAPIName, models);
+            CodegenModel model = graph.getModel(openAPIName);
             if (model != null) {
                 for (CodegenProperty var : model.allVars) {
                     if (enumRefs.containsKey(var.dataType)) {
@@ -54,6 +54,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
     public static final String BOOLEAN_GETTER_PREFIX = "booleanGetterPrefix";
     public static final String BOOLEAN_GETTER_PREFIX_DEFAULT = "get";
     public static final String USE_NULL_FOR_UNKNOWN_ENUM_VALUE = "useNullForUnknownEnumValue";
+    public static final String USE_JACKSON_AFTERBURNER = "useJacksonAfterburner";
 
     protected String dateLibrary = "threetenbp";
     protected boolean supportAsync = false;
@@ -88,6 +89,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
     protected boolean disableHtmlEscaping = false;
     protected String booleanGetterPrefix = BOOLEAN_GETTER_PREFIX_DEFAULT;
     protected boolean useNullForUnknownEnumValue = false;
+    protected boolean useJacksonAfterburner = false;
     protected String parentGroupId = "";
     protected String parentArtifactId = "";
     protected String parentVersion = "";
@@ -220,6 +222,9 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
             this.setUseNullForUnknownEnumValue(Boolean.valueOf(additionalProperties.get(USE_NULL_FOR_UNKNOWN_ENUM_VALUE).toString()));
         }
         additionalProperties.put(USE_NULL_FOR_UNKNOWN_ENUM_VALUE, useNullForUnknownEnumValue);
+        if (additionalProperties.containsKey(USE_JACKSON_AFTERBURNER)) {
+            this.setUseJacksonAfterburner(convertPropertyToBooleanAndWriteBack(USE_JACKSON_AFTERBURNER));
+        }
 
         if (additionalProperties.containsKey(CodegenConstants.INVOKER_PACKAGE)) {
             this.setInvokerPackage((String) additionalProperties.get(CodegenConstants.INVOKER_PACKAGE));
@@ -1139,6 +1144,8 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
     public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, List<Server> servers) {
         CodegenOperation op = super.fromOperation(path, httpMethod, operation, servers);
         op.path = sanitizePath(op.path);
+        // keep the parsed path in step with the escaped one, as generators render their paths from it
+        op.pathTemplate = CodegenPathTemplate.parse(op.path, op.pathParams);
         return op;
     }
 
@@ -1316,6 +1323,10 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
         this.useNullForUnknownEnumValue = useNullForUnknownEnumValue;
     }
 
+    public void setUseJacksonAfterburner(boolean useJacksonAfterburner) {
+        this.useJacksonAfterburner = useJacksonAfterburner;
+    }
+
     @Override
     public String escapeQuotationMark(String input) {
         // remove " to avoid code injection
@@ -30,7 +30,6 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.*;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static org.openapitools.codegen.utils.StringUtils.camelize;
@@ -43,6 +42,7 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegen imp
 
     private static final String X_DISCRIMINATOR_TYPE = "x-discriminator-value";
     private static final String UNDEFINED_VALUE = "undefined";
+    private static final Pattern BREAKING_CHARACTERS_PATTERN = Pattern.compile("^.*[+*:;,.()-]+.*$");
 
     protected String modelPropertyNaming = "camelCase";
     protected Boolean supportsES6 = true;
@@ -208,11 +208,7 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegen imp
      * @return <code>true</code> if breaking characters are present and <code>false</code> if not
      */
     private boolean propertyHasBreakingCharacters(String str) {
-        final String regex = "^.*[+*:;,.()-]+.*$";
-        final Pattern pattern = Pattern.compile(regex);
-        final Matcher matcher = pattern.matcher(str);
-        boolean matches = matcher.matches();
-        return matches;
+        return BREAKING_CHARACTERS_PATTERN.matcher(str).matches();
     }
 
     @Override
@@ -545,15 +541,11 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegen imp
     public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
         Map<String, Object> result = super.postProcessAllModels(objs);
 
-        for (Map.Entry<String, Object> entry : result.entrySet()) {
-            Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-            List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-            for (Map<String, Object> mo : models) {
-                CodegenModel cm = (CodegenModel) mo.get("model");
-                if (cm.discriminator != null && cm.children != null) {
-                    for (CodegenModel child : cm.children) {
-                        this.setDiscriminatorValue(child, cm.discriminator.getPropertyName(), this.getDiscriminatorValue(child));
-                    }
+        for (Map<String, Object> mo : ModelGraph.of(result, this::toModelName).getModelTemplates()) {
+            CodegenModel cm = (CodegenModel) mo.get("model");
+            if (cm.discriminator != null && cm.children != null) {
+                for (CodegenModel child : cm.children) {
+                    this.setDiscriminatorValue(child, cm.discriminator.getPropertyName(), this.getDiscriminatorValue(child));
                 }
             }
         }
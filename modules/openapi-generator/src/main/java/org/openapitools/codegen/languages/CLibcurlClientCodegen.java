@@ -44,7 +44,7 @@ public class CLibcurlClientCodegen extends DefaultCodegen implements CodegenConf
     protected String apiDocPath = "docs/";
     protected String modelDocPath = "docs/";
 
-    protected static int emptyMethodNameCounter = 0;
+    protected int emptyMethodNameCounter = 0;
 
     public CLibcurlClientCodegen() {
         super();
@@ -34,8 +34,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.openapitools.codegen.utils.StringUtils.camelize;
 import static org.openapitools.codegen.utils.StringUtils.underscore;
@@ -271,23 +269,10 @@ public class ElixirClientCodegen extends DefaultCodegen implements CodegenConfig
         Map<String, Object> operations = (Map<String, Object>) super.postProcessOperationsWithModels(objs, allModels).get("operations");
         List<CodegenOperation> os = (List<CodegenOperation>) operations.get("operation");
         List<ExtendedCodegenOperation> newOs = new ArrayList<ExtendedCodegenOperation>();
-        Pattern pattern = Pattern.compile("\\{([^\\}]+)\\}([^\\{]*)");
         for (CodegenOperation o : os) {
-            ArrayList<String> pathTemplateNames = new ArrayList<String>();
-            Matcher matcher = pattern.matcher(o.path);
-            StringBuffer buffer = new StringBuffer();
-            while (matcher.find()) {
-                String pathTemplateName = matcher.group(1);
-                matcher.appendReplacement(buffer, "#{" + underscore(pathTemplateName) + "}" + "$2");
-                pathTemplateNames.add(pathTemplateName);
-            }
             ExtendedCodegenOperation eco = new ExtendedCodegenOperation(o);
-            if (buffer.toString().isEmpty()) {
-                eco.setReplacedPathName(o.path);
-            } else {
-                eco.setReplacedPathName(buffer.toString());
-            }
-            eco.setPathTemplateNames(pathTemplateNames);
+            eco.setReplacedPathName(o.pathTemplate.render(part -> "#{" + underscore(part.value) + "}"));
+            eco.setPathTemplateNames(new ArrayList<String>(o.pathTemplate.variableNames));
 
             // detect multipart form types
             if (eco.hasConsumes == Boolean.TRUE) {
@@ -658,6 +643,7 @@ public class ElixirClientCodegen extends DefaultCodegen implements CodegenConfig
             this.formParams = o.formParams;
             this.requiredParams = o.requiredParams;
             this.optionalParams = o.optionalParams;
+            this.pathTemplate = o.pathTemplate;
             this.authMethods = o.authMethods;
             this.tags = o.tags;
             this.responses = o.responses;
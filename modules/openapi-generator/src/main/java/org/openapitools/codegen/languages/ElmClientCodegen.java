@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.text.CollationKey;
 import java.text.Collator;
 import java.util.*;
 import java.util.function.Predicate;
@@ -315,22 +316,21 @@ public class ElmClientCodegen extends DefaultCodegen implements CodegenConfig {
         return m;
     }
 
+    private static void sortByClassname(List<CodegenModel> models, Collator collator) {
+        final Map<CodegenModel, CollationKey> keys = new IdentityHashMap<>();
+        for (CodegenModel model : models) {
+            keys.put(model, collator.getCollationKey(model.classname));
+        }
+        models.sort(Comparator.comparing(keys::get));
+    }
+
     @SuppressWarnings({"static-method", "unchecked"})
     public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
-        // Index all CodegenModels by model name.
-        Map<String, CodegenModel> allModels = new HashMap<>();
-        for (Map.Entry<String, Object> entry : objs.entrySet()) {
-            String modelName = toModelName(entry.getKey());
-            Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-            List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-            for (Map<String, Object> mo : models) {
-                CodegenModel cm = (CodegenModel) mo.get("model");
-                allModels.put(modelName, cm);
-            }
-        }
+        ModelGraph graph = ModelGraph.of(objs, this::toModelName);
         // Let parent know about all its children
-        for (CodegenModel cm : allModels.values()) {
-            CodegenModel parent = allModels.get(cm.parent);
+        Set<CodegenModel> parents = Collections.newSetFromMap(new IdentityHashMap<CodegenModel, Boolean>());
+        for (CodegenModel cm : graph.getModelsByName().values()) {
+            CodegenModel parent = graph.getModelByName(cm.parent);
 
             if (parent != null) {
                 if (parent.children == null) {
@@ -338,14 +338,14 @@ public class ElmClientCodegen extends DefaultCodegen implements CodegenConfig {
                     parent.hasChildren = true;
                 }
                 parent.children.add(cm);
-                Collections.sort(parent.children, new Comparator<CodegenModel>() {
-                    @Override
-                    public int compare(CodegenModel cm1, CodegenModel cm2) {
-                        return Collator.getInstance(Locale.ROOT).compare(cm1.classname, cm2.classname);
-                    }
-                });
+                parents.add(parent);
             }
         }
+        // sorted once all children are known
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        for (CodegenModel parent : parents) {
+            sortByClassname(parent.children, collator);
+        }
         for (Map.Entry<String, Object> entry : objs.entrySet()) {
             Map<String, Object> inner = (Map<String, Object>) entry.getValue();
             List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
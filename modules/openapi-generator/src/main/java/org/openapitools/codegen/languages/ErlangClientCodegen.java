@@ -29,8 +29,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.openapitools.codegen.utils.StringUtils.camelize;
 import static org.openapitools.codegen.utils.StringUtils.underscore;
@@ -288,7 +286,6 @@ public class ErlangClientCodegen extends DefaultCodegen implements CodegenConfig
         Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
         List<CodegenOperation> os = (List<CodegenOperation>) operations.get("operation");
         List<ExtendedCodegenOperation> newOs = new ArrayList<ExtendedCodegenOperation>();
-        Pattern pattern = Pattern.compile("\\{([^\\}]+)\\}");
         for (CodegenOperation o : os) {
             // force http method to lower case
             o.httpMethod = o.httpMethod.toLowerCase(Locale.ROOT);
@@ -297,23 +294,9 @@ public class ErlangClientCodegen extends DefaultCodegen implements CodegenConfig
                 o.returnType = "[" + o.returnBaseType + "]";
             }
 
-            ArrayList<String> pathTemplateNames = new ArrayList<String>();
-            Matcher matcher = pattern.matcher(o.path);
-            StringBuffer buffer = new StringBuffer();
-            while (matcher.find()) {
-                String pathTemplateName = matcher.group(1);
-                matcher.appendReplacement(buffer, "\", " + camelize(pathTemplateName) + ", \"");
-                pathTemplateNames.add(pathTemplateName);
-            }
-            matcher.appendTail(buffer);
-
             ExtendedCodegenOperation eco = new ExtendedCodegenOperation(o);
-            if (buffer.toString().isEmpty()) {
-                eco.setReplacedPathName(o.path);
-            } else {
-                eco.setReplacedPathName(buffer.toString());
-            }
-            eco.setPathTemplateNames(pathTemplateNames);
+            eco.setReplacedPathName(o.pathTemplate.render(part -> "\", " + camelize(part.value) + ", \""));
+            eco.setPathTemplateNames(new ArrayList<String>(o.pathTemplate.variableNames));
             newOs.add(eco);
         }
         operations.put("operation", newOs);
@@ -411,6 +394,7 @@ public class ErlangClientCodegen extends DefaultCodegen implements CodegenConfig
             this.arityOptional = Integer.toString(lengthRequired(o.allParams) + 2);
             this.bodyParams = o.bodyParams;
             this.pathParams = o.pathParams;
+            this.pathTemplate = o.pathTemplate;
             this.queryParams = o.queryParams;
             this.headerParams = o.headerParams;
             this.formParams = o.formParams;
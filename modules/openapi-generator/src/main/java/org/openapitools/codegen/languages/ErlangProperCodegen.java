@@ -30,8 +30,6 @@ import java.io.IOException;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.openapitools.codegen.utils.StringUtils.camelize;
 import static org.openapitools.codegen.utils.StringUtils.underscore;
@@ -344,7 +342,6 @@ public class ErlangProperCodegen extends DefaultCodegen implements CodegenConfig
         Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
         List<CodegenOperation> os = (List<CodegenOperation>) operations.get("operation");
         List<ExtendedCodegenOperation> newOs = new ArrayList<>();
-        Pattern pattern = Pattern.compile("\\{([^\\}]+)\\}");
         for (CodegenOperation o : os) {
             // force http method to lower case
             o.httpMethod = o.httpMethod.toLowerCase(Locale.ROOT);
@@ -353,20 +350,8 @@ public class ErlangProperCodegen extends DefaultCodegen implements CodegenConfig
                 o.returnType = "[" + o.returnBaseType + "]";
             }
 
-            Matcher matcher = pattern.matcher(o.path);
-            StringBuffer buffer = new StringBuffer();
-            while (matcher.find()) {
-                String pathTemplateName = matcher.group(1);
-                matcher.appendReplacement(buffer, "\", " + camelize(pathTemplateName) + ", \"");
-            }
-            matcher.appendTail(buffer);
-
             ExtendedCodegenOperation eco = new ExtendedCodegenOperation(o);
-            if (buffer.length() == 0) {
-                eco.setReplacedPathName(o.path);
-            } else {
-                eco.setReplacedPathName(buffer.toString());
-            }
+            eco.setReplacedPathName(o.pathTemplate.render(part -> "\", " + camelize(part.value) + ", \""));
             newOs.add(eco);
         }
         operations.put("operation", newOs);
@@ -519,6 +504,7 @@ public class ErlangProperCodegen extends DefaultCodegen implements CodegenConfig
             this.arity = Integer.toString(lengthRequired(o.allParams));
             this.bodyParams = o.bodyParams;
             this.pathParams = o.pathParams;
+            this.pathTemplate = o.pathTemplate;
             this.queryParams = o.queryParams;
             this.headerParams = o.headerParams;
             this.formParams = o.formParams;
@@ -573,7 +573,12 @@ public class HaskellHttpClientCodegen extends DefaultCodegen implements CodegenC
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+        // all operations have been processed by now: the tables shared by the supporting files are built once
+        updateGlobalAdditionalProps();
+        updateModelMimeTypes((List<Object>) objs.get("models"));
+
         generateYAMLSpecFile(objs);
 
         return super.postProcessSupportingFileData(objs);
@@ -720,12 +725,6 @@ public class HaskellHttpClientCodegen extends DefaultCodegen implements CodegenC
         return secs;
     }
 
-    @Override
-    public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
-        updateGlobalAdditionalProps();
-        return super.postProcessAllModels(objs);
-    }
-
     public void updateGlobalAdditionalProps() {
         additionalProperties.put(X_HAS_UNKNOWN_MIME_TYPES, !unknownMimeTypes.isEmpty());
 
@@ -760,10 +759,18 @@ public class HaskellHttpClientCodegen extends DefaultCodegen implements CodegenC
             ops.get(0).vendorExtensions.put(X_HAS_NEW_TAG, true);
         }
 
-        updateGlobalAdditionalProps();
+        return ret;
+    }
 
+    /**
+     * Adds the MIME types each model is sent as, once all operations are known.
+     *
+     * @param allModels the model maps of all models, as passed to the supporting files
+     */
+    @SuppressWarnings("unchecked")
+    public void updateModelMimeTypes(List<Object> allModels) {
         for (Object o : allModels) {
-            HashMap<String, Object> h = (HashMap<String, Object>) o;
+            Map<String, Object> h = (Map<String, Object>) o;
             CodegenModel m = (CodegenModel) h.get("model");
             if (modelMimeTypes.containsKey(m.classname)) {
                 Set<String> mimeTypes = modelMimeTypes.get(m.classname);
@@ -781,7 +788,6 @@ public class HaskellHttpClientCodegen extends DefaultCodegen implements CodegenC
                 }
             }
         }
-        return ret;
     }
 
     @Override
@@ -51,6 +51,7 @@ import org.openapitools.codegen.SupportingFile;
 import org.openapitools.codegen.languages.features.CXFExtServerFeatures;
 import org.openapitools.codegen.utils.JsonCache;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.RandomValueGenerator;
 import org.openapitools.codegen.utils.JsonCache.CacheException;
 import org.openapitools.codegen.utils.JsonCache.Root.MergePolicy;
 import org.slf4j.Logger;
@@ -58,7 +59,6 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.mifmif.common.regex.Generex;
 
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -306,7 +306,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
         MAX_DATE = maxDate;
     }
 
-    private Map<String, Generex> REGEX_GENERATORS = new HashMap<>();
+    protected RandomValueGenerator randomValues = new RandomValueGenerator();
 
     protected boolean generateOperationBody = false;
 
@@ -334,6 +334,8 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
         cliOptions.add(CliOption.newBoolean(LOAD_TEST_DATA_FROM_FILE, "Load test data from a generated JSON file"));
         cliOptions.add(CliOption.newString(TEST_DATA_FILE, "JSON file to contain generated test data"));
         cliOptions.add(CliOption.newString(TEST_DATA_CONTROL_FILE, "JSON file to control test data generation"));
+        cliOptions.add(CliOption.newString(TEST_DATA_SEED,
+                "Seed for the random test data generator, to make generated values reproducible"));
     }
 
     private void appendArrayValue(StringBuilder buffer, String indent, CodegenOperation op, CodegenVariable var,
@@ -379,14 +381,9 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
 
         if (!loadTestDataFromFile)
             buffer.append('"');
-        short min = var == null || var.minimum == null ? Byte.MIN_VALUE : Byte.parseByte(var.minimum);
-        short max = var == null || var.maximum == null ? Byte.MAX_VALUE : Byte.parseByte(var.maximum);
-        short exclusiveMin = (short) (var != null && var.exclusiveMinimum ? 1 : 0);
-        short inclusiveMax = (short) (var == null || !var.exclusiveMaximum ? 1 : 0);
         int itemCount = Math.max(var.itemCount, var.minItems == null ? 1 : Math.max(1, var.minItems));
-        byte[] randomBytes = new byte[itemCount];
-        for (int i = 0; i < itemCount; i++)
-            randomBytes[i] = (byte) (min + exclusiveMin + ((max + inclusiveMax - min - exclusiveMin) * Math.random()));
+        byte[] randomBytes = randomValues.nextBytes(itemCount, var.minimum, var.maximum, var.exclusiveMinimum,
+                var.exclusiveMaximum);
         String randomBytesBase64 = Base64.getEncoder().encodeToString(randomBytes);
         if (loadTestDataFromFile)
             var.addTestData(randomBytesBase64);
@@ -536,7 +533,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
     }
 
     private void appendRandomBoolean(StringBuilder buffer, CodegenOperation op, CodegenVariable var) {
-        boolean randomBoolean = Math.random() > 0.5;
+        boolean randomBoolean = randomValues.nextBoolean();
 
         if (loadTestDataFromFile)
             var.addTestData(randomBoolean);
@@ -546,12 +543,8 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
 
     private void appendRandomByte(StringBuilder buffer, CodegenOperation op, CodegenVariable var) {
         if (!appendRandomEnum(buffer, op, var)) {
-            // NOTE: use short to hold byte values, to avoid numeric overflow.
-            short min = var == null || var.minimum == null ? Byte.MIN_VALUE : Byte.parseByte(var.minimum);
-            short max = var == null || var.maximum == null ? Byte.MAX_VALUE : Byte.parseByte(var.maximum);
-            short exclusiveMin = (short) (var != null && var.exclusiveMinimum ? 1 : 0);
-            short inclusiveMax = (short) (var == null || !var.exclusiveMaximum ? 1 : 0);
-            byte randomByte = (byte) (min + exclusiveMin + ((max + inclusiveMax - min - exclusiveMin) * Math.random()));
+            byte randomByte = randomValues.nextByte(var.minimum, var.maximum, var.exclusiveMinimum,
+                    var.exclusiveMaximum);
 
             if (loadTestDataFromFile)
                 var.addTestData(randomByte);
@@ -562,13 +555,8 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
 
     private void appendRandomChar(StringBuilder buffer, CodegenOperation op, CodegenVariable var) {
         if (!appendRandomEnum(buffer, op, var)) {
-            // TODO: consider whether to broaden the default range.
-            // NOTE: char is unsigned, so there's no overflow issue in computing (max - min).
-            char min = var == null || var.minimum == null ? 'a' : var.minimum.charAt(0);
-            char max = var == null || var.maximum == null ? 'z' : var.maximum.charAt(0);
-            char exclusiveMin = (char) (var != null && var.exclusiveMinimum ? 1 : 0);
-            char inclusiveMax = (char) (var == null || !var.exclusiveMaximum ? 1 : 0);
-            char randomChar = (char) (min + exclusiveMin + ((max + inclusiveMax - min - exclusiveMin) * Math.random()));
+            char randomChar = randomValues.nextChar(var.minimum, var.maximum, var.exclusiveMinimum,
+                    var.exclusiveMaximum);
 
             if (loadTestDataFromFile)
                 var.addTestData(randomChar);
@@ -603,13 +591,8 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
                     }
                 }
             }
-            // NOTE: use BigDecimal to hold long values, to avoid numeric overflow.
-            BigDecimal minLong = new BigDecimal(minDate);
-            BigDecimal maxLong = new BigDecimal(maxDate);
-            BigDecimal exclusiveMinLong = new BigDecimal(var != null && var.exclusiveMinimum ? 1 : 0);
-            BigDecimal inclusiveMaxLong = new BigDecimal(var == null || !var.exclusiveMaximum ? 1 : 0);
-            long randomDateLong = minLong.add(exclusiveMinLong).add(maxLong.add(inclusiveMaxLong).subtract(minLong)
-                    .subtract(exclusiveMinLong).multiply(new BigDecimal(Math.random()))).longValue();
+            long randomDateLong = randomValues.nextDate(minDate, maxDate, var != null && var.exclusiveMinimum,
+                    var != null && var.exclusiveMaximum);
 
             // If it's just a date without a time, round downwards to the nearest day.
             if ("date".equals(var.dataFormat))
@@ -636,15 +619,8 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
 
     private void appendRandomDouble(StringBuilder buffer, CodegenOperation op, CodegenVariable var) {
         if (!appendRandomEnum(buffer, op, var)) {
-            // NOTE: use BigDecimal to hold double values, to avoid numeric overflow.
-            BigDecimal min = new BigDecimal(
-                    var == null || var.minimum == null ? Long.MIN_VALUE : Double.parseDouble(var.minimum));
-            BigDecimal max = new BigDecimal(
-                    var == null || var.maximum == null ? Long.MAX_VALUE : Double.parseDouble(var.maximum));
-            BigDecimal exclusiveMin = new BigDecimal(var != null && var.exclusiveMinimum ? 1 : 0);
-            BigDecimal inclusiveMax = new BigDecimal(var == null || !var.exclusiveMaximum ? 1 : 0);
-            BigDecimal randomBigDecimal = min.add(exclusiveMin).add(max.add(inclusiveMax).subtract(min)
-                    .subtract(exclusiveMin).multiply(new BigDecimal(String.valueOf(Math.random()))));
+            BigDecimal randomBigDecimal = randomValues.nextBigDecimal(var.minimum, var.maximum, var.exclusiveMinimum,
+                    var.exclusiveMaximum);
 
             if (loadTestDataFromFile)
                 var.addTestData(randomBigDecimal);
@@ -656,7 +632,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
     private boolean appendRandomEnum(StringBuilder buffer, CodegenOperation op, CodegenVariable var) {
         if (var != null && var.allowableValues != null) {
             List<?> values = (List<?>) var.allowableValues.get("values");
-            int i = (int) (values.size() * Math.random());
+            int i = randomValues.nextIndex(values.size());
             Object randomEnum = values.get(i);
             boolean usingEnumLiteral = false;
             String definingClass = (String) var.vendorExtensions.get("x-defining-class");
@@ -698,13 +674,8 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
 
     private void appendRandomFloat(StringBuilder buffer, CodegenOperation op, CodegenVariable var) {
         if (!appendRandomEnum(buffer, op, var)) {
-            // NOTE: use double to hold float values, to avoid numeric overflow.
-            double min = var == null || var.minimum == null ? -Float.MAX_VALUE : Float.parseFloat(var.minimum);
-            double max = var == null || var.maximum == null ? Float.MAX_VALUE : Float.parseFloat(var.maximum);
-            double exclusiveMin = (double) (var != null && var.exclusiveMinimum ? 1 : 0);
-            double inclusiveMax = (double) (var == null || !var.exclusiveMaximum ? 1 : 0);
-            float randomFloat = (float) (min + exclusiveMin
-                    + ((max + inclusiveMax - min - exclusiveMin) * Math.random()));
+            float randomFloat = randomValues.nextFloat(var.minimum, var.maximum, var.exclusiveMinimum,
+                    var.exclusiveMaximum);
 
             if (loadTestDataFromFile)
                 var.addTestData(randomFloat);
@@ -715,12 +686,8 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
 
     private void appendRandomInt(StringBuilder buffer, CodegenOperation op, CodegenVariable var) {
         if (!appendRandomEnum(buffer, op, var)) {
-            // NOTE: use double to hold int values, to avoid numeric overflow.
-            long min = var == null || var.minimum == null ? Integer.MIN_VALUE : Integer.parseInt(var.minimum);
-            long max = var == null || var.maximum == null ? Integer.MAX_VALUE : Integer.parseInt(var.maximum);
-            long exclusiveMin = var != null && var.exclusiveMinimum ? 1 : 0;
-            long inclusiveMax = var == null || !var.exclusiveMaximum ? 1 : 0;
-            int randomInt = (int) (min + exclusiveMin + ((max + inclusiveMax - min - exclusiveMin) * Math.random()));
+            int randomInt = randomValues.nextInt(var.minimum, var.maximum, var.exclusiveMinimum,
+                    var.exclusiveMaximum);
 
             if (loadTestDataFromFile)
                 var.addTestData(randomInt);
@@ -731,16 +698,8 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
 
     private void appendRandomLong(StringBuilder buffer, CodegenOperation op, CodegenVariable var) {
         if (!appendRandomEnum(buffer, op, var)) {
-            // NOTE: use BigDecimal to hold long values, to avoid numeric overflow.
-            BigDecimal min = new BigDecimal(
-                    var == null || var.minimum == null ? Long.MIN_VALUE : Long.parseLong(var.minimum));
-            BigDecimal max = new BigDecimal(
-                    var == null || var.maximum == null ? Long.MAX_VALUE : Long.parseLong(var.maximum));
-            BigDecimal exclusiveMin = new BigDecimal(var != null && var.exclusiveMinimum ? 1 : 0);
-            BigDecimal inclusiveMax = new BigDecimal(var == null || !var.exclusiveMaximum ? 1 : 0);
-            long randomLong = min.add(exclusiveMin).add(
-                    max.add(inclusiveMax).subtract(min).subtract(exclusiveMin).multiply(new BigDecimal(Math.random())))
-                    .longValue();
+            long randomLong = randomValues.nextLong(var.minimum, var.maximum, var.exclusiveMinimum,
+                    var.exclusiveMaximum);
 
             if (loadTestDataFromFile)
                 var.addTestData(randomLong);
@@ -751,13 +710,8 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
 
     private void appendRandomShort(StringBuilder buffer, CodegenOperation op, CodegenVariable var) {
         if (!appendRandomEnum(buffer, op, var)) {
-            // NOTE: use int to hold short values, to avoid numeric overflow.
-            int min = var == null || var.minimum == null ? Short.MIN_VALUE : Short.parseShort(var.minimum);
-            int max = var == null || var.maximum == null ? Short.MAX_VALUE : Short.parseShort(var.maximum);
-            int exclusiveMin = var != null && var.exclusiveMinimum ? 1 : 0;
-            int inclusiveMax = var == null || !var.exclusiveMaximum ? 1 : 0;
-            short randomShort = (short) (min + exclusiveMin
-                    + ((max + inclusiveMax - min - exclusiveMin) * Math.random()));
+            short randomShort = randomValues.nextShort(var.minimum, var.maximum, var.exclusiveMinimum,
+                    var.exclusiveMaximum);
 
             if (loadTestDataFromFile)
                 var.addTestData(randomShort);
@@ -921,13 +875,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
     }
 
     private String generateRandomString(CodegenVariable var) {
-        String pattern = patternFor(var);
-        Generex generex = REGEX_GENERATORS.get(pattern);
-        if (generex == null) {
-            generex = new Generex(pattern);
-            REGEX_GENERATORS.put(pattern, generex);
-        }
-        return generex.random();
+        return randomValues.nextString(patternFor(var));
     }
 
     private String getCacheMethod(CodegenVariable var) {
@@ -1313,6 +1261,10 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
             boolean generateOperationBody = convertPropertyToBooleanAndWriteBack(GENERATE_OPERATION_BODY);
             this.setGenerateOperationBody(generateOperationBody);
 
+            if (additionalProperties.containsKey(TEST_DATA_SEED)) {
+                this.setTestDataSeed(Long.parseLong(additionalProperties.get(TEST_DATA_SEED).toString()));
+            }
+
             boolean loadTestDataFromFile = convertPropertyToBooleanAndWriteBack(LOAD_TEST_DATA_FROM_FILE);
             this.setLoadTestDataFromFile(loadTestDataFromFile);
 
@@ -1397,6 +1349,10 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
         this.testDataControlFile = testDataControlFile;
     }
 
+    public void setTestDataSeed(long testDataSeed) {
+        this.randomValues = new RandomValueGenerator(testDataSeed);
+    }
+
     public void setTestDataFile(File testDataFile) {
         this.testDataFile = testDataFile;
     }
@@ -54,6 +54,10 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String PARCELABLE_MODEL = "parcelableModel";
     public static final String USE_RUNTIME_EXCEPTION = "useRuntimeException";
     public static final String USE_REFLECTION_EQUALS_HASHCODE = "useReflectionEqualsHashCode";
+    public static final String STREAMING_ARRAY_RESPONSES = "streamingArrayResponses";
+    public static final String USE_APACHE_CONNECTOR = "useApacheConnector";
+    public static final String REACTIVE_STREAMING = "reactiveStreaming";
+    public static final String IMMUTABLE_MODELS = "immutableModels";
 
     public static final String PLAY_24 = "play24";
     public static final String PLAY_25 = "play25";
@@ -66,6 +70,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String GOOGLE_API_CLIENT = "google-api-client";
     public static final String JERSEY1 = "jersey1";
     public static final String JERSEY2 = "jersey2";
+    public static final String NATIVE = "native";
     public static final String OKHTTP_GSON = "okhttp-gson";
     public static final String RESTEASY = "resteasy";
     public static final String RESTTEMPLATE = "resttemplate";
@@ -90,6 +95,10 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     protected boolean useGzipFeature = false;
     protected boolean useRuntimeException = false;
     protected boolean useReflectionEqualsHashCode = false;
+    protected boolean streamingArrayResponses = false;
+    protected boolean useApacheConnector = false;
+    protected boolean reactiveStreaming = false;
+    protected boolean immutableModels = false;
     protected String authFolder;
 
     public JavaClientCodegen() {
@@ -115,6 +124,11 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         cliOptions.add(CliOption.newBoolean(USE_RUNTIME_EXCEPTION, "Use RuntimeException instead of Exception"));
         cliOptions.add(CliOption.newBoolean(FEIGN_VERSION, "Version of OpenFeign: '10.x', '9.x' (default)"));
         cliOptions.add(CliOption.newBoolean(USE_REFLECTION_EQUALS_HASHCODE, "Use org.apache.commons.lang3.builder for equals and hashCode in the models. WARNING: This will fail under a security manager, unless the appropriate permissions are set up correctly and also there's potential performance impact."));
+        cliOptions.add(CliOption.newBoolean(STREAMING_ARRAY_RESPONSES, "Whether to generate, with the okhttp-gson library, methods passing the items of array responses to a callback as they are read, instead of deserializing the whole response first."));
+        cliOptions.add(CliOption.newBoolean(USE_APACHE_CONNECTOR, "Whether to use, with the jersey2 library, the Apache HttpClient connector with a pool of persistent connections (configurable maximum connections in total and per route, and idle connection eviction) instead of the HttpURLConnection connector."));
+        cliOptions.add(CliOption.newBoolean(REACTIVE_STREAMING, "Whether to use, with the webclient library, Flux for array request bodies and for the responses of operations producing streams (application/stream+json, application/x-ndjson or text/event-stream), so that they are processed element by element."));
+        cliOptions.add(CliOption.newBoolean(IMMUTABLE_MODELS, "Whether to generate immutable models, with builders, @JsonCreator constructors and cached hash codes, with the Jackson based libraries. Models extending collections stay mutable."));
+        cliOptions.add(CliOption.newBoolean(USE_JACKSON_AFTERBURNER, "Whether to register the Jackson Afterburner module, which generates bytecode to access the properties of models instead of using reflection, with the jersey2, resttemplate, webclient and native libraries. The native library also reuses the Jackson readers and writers of each type."));
 
         supportedLibraries.put(JERSEY1, "HTTP client: Jersey client 1.19.x. JSON processing: Jackson 2.8.x. Enable Java6 support using '-DsupportJava6=true'. Enable gzip request encoding using '-DuseGzipFeature=true'.");
         supportedLibraries.put(FEIGN, "HTTP client: OpenFeign 9.x or 10.x. JSON processing: Jackson 2.8.x. To enable OpenFeign 10.x, set the 'feignVersion' option to '10.x'");
@@ -128,6 +142,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         supportedLibraries.put(VERTX, "HTTP client: VertX client 3.x. JSON processing: Jackson 2.8.x");
         supportedLibraries.put(GOOGLE_API_CLIENT, "HTTP client: Google API client 1.x. JSON processing: Jackson 2.8.x");
         supportedLibraries.put(REST_ASSURED, "HTTP client: rest-assured : 3.x. JSON processing: Gson 2.x. Only for Java8");
+        supportedLibraries.put(NATIVE, "HTTP client: Java native HttpClient (java.net.http) with HTTP/2, sync and CompletableFuture async methods. JSON processing: Jackson 2.9.x. Only for Java11+");
 
         CliOption libraryOption = new CliOption(CodegenConstants.LIBRARY, "library template (sub-template) to use");
         libraryOption.setEnum(supportedLibraries);
@@ -155,7 +170,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen
 
     @Override
     public void processOpts() {
-        if (WEBCLIENT.equals(getLibrary()) && "threetenbp".equals(dateLibrary)) {
+        if ((WEBCLIENT.equals(getLibrary()) || NATIVE.equals(getLibrary())) && "threetenbp".equals(dateLibrary)) {
             dateLibrary = "java8";
         }
 
@@ -225,6 +240,27 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             this.setUseReflectionEqualsHashCode(convertPropertyToBooleanAndWriteBack(USE_REFLECTION_EQUALS_HASHCODE));
         }
 
+        if (additionalProperties.containsKey(STREAMING_ARRAY_RESPONSES)) {
+            this.setStreamingArrayResponses(convertPropertyToBooleanAndWriteBack(STREAMING_ARRAY_RESPONSES));
+        }
+
+        if (additionalProperties.containsKey(USE_APACHE_CONNECTOR)) {
+            this.setUseApacheConnector(convertPropertyToBooleanAndWriteBack(USE_APACHE_CONNECTOR));
+        }
+        if (useApacheConnector && (!JERSEY2.equals(getLibrary()) || supportJava6)) {
+            LOGGER.warn("The " + USE_APACHE_CONNECTOR + " option is only supported by the jersey2 library without Java 6 support, and is ignored");
+            this.setUseApacheConnector(false);
+            additionalProperties.put(USE_APACHE_CONNECTOR, false);
+        }
+
+        if (additionalProperties.containsKey(REACTIVE_STREAMING)) {
+            this.setReactiveStreaming(convertPropertyToBooleanAndWriteBack(REACTIVE_STREAMING));
+        }
+
+        if (additionalProperties.containsKey(IMMUTABLE_MODELS)) {
+            this.setImmutableModels(convertPropertyToBooleanAndWriteBack(IMMUTABLE_MODELS));
+        }
+
         final String invokerFolder = (sourceFolder + '/' + invokerPackage).replace(".", "/");
         final String apiFolder = (sourceFolder + '/' + apiPackage).replace(".", "/");
         authFolder = (sourceFolder + '/' + invokerPackage + ".auth").replace(".", "/");
@@ -294,6 +330,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             supportingFiles.add(new SupportingFile("ProgressRequestBody.mustache", invokerFolder, "ProgressRequestBody.java"));
             supportingFiles.add(new SupportingFile("ProgressResponseBody.mustache", invokerFolder, "ProgressResponseBody.java"));
             supportingFiles.add(new SupportingFile("GzipRequestInterceptor.mustache", invokerFolder, "GzipRequestInterceptor.java"));
+            if (streamingArrayResponses) {
+                supportingFiles.add(new SupportingFile("ApiItemCallback.mustache", invokerFolder, "ApiItemCallback.java"));
+            }
 
             // NOTE: below moved to postProcessOpoerationsWithModels
             //supportingFiles.add(new SupportingFile("auth/OAuthOkHttpClient.mustache", authFolder, "OAuthOkHttpClient.java"));
@@ -322,6 +361,12 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             setJava8Mode(true);
             additionalProperties.put("java8", "true");
             additionalProperties.put("jackson", "true");
+        } else if (NATIVE.equals(getLibrary())) {
+            setJava8Mode(true);
+            additionalProperties.put("java8", "true");
+            additionalProperties.put("java11", "true");
+            additionalProperties.put("jackson", "true");
+            supportingFiles.add(new SupportingFile("ApiResponse.mustache", invokerFolder, "ApiResponse.java"));
         } else if (VERTX.equals(getLibrary())) {
             typeMapping.put("file", "AsyncFile");
             importMapping.put("AsyncFile", "io.vertx.core.file.AsyncFile");
@@ -345,6 +390,18 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             LOGGER.error("Unknown library option (-l/--library): " + getLibrary());
         }
 
+        if (immutableModels && (!additionalProperties.containsKey("jackson") || parcelableModel || withXml || supportJava6)) {
+            LOGGER.warn("The " + IMMUTABLE_MODELS + " option is only supported by the Jackson based libraries, without Parcelable models, XML or Java 6 support, and is ignored");
+            this.setImmutableModels(false);
+            additionalProperties.put(IMMUTABLE_MODELS, false);
+        }
+
+        if (useJacksonAfterburner && !(JERSEY2.equals(getLibrary()) || RESTTEMPLATE.equals(getLibrary()) || WEBCLIENT.equals(getLibrary()) || NATIVE.equals(getLibrary()))) {
+            LOGGER.warn("The " + USE_JACKSON_AFTERBURNER + " option is only supported by the jersey2, resttemplate, webclient and native libraries, and is ignored");
+            this.setUseJacksonAfterburner(false);
+            additionalProperties.put(USE_JACKSON_AFTERBURNER, false);
+        }
+
         if (usePlayWS) {
             // remove unsupported auth
             Iterator<SupportingFile> iter = supportingFiles.iterator();
@@ -478,6 +535,38 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             }
         }
 
+        // for okhttp-gson (default), offer to stream the items of responses which are lists of (non-container) items
+        if ((OKHTTP_GSON.equals(getLibrary()) || StringUtils.isEmpty(getLibrary())) && streamingArrayResponses) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
+            for (CodegenOperation op : operationList) {
+                if (op.isListContainer && op.returnBaseType != null
+                        && op.returnType.endsWith("List<" + op.returnBaseType + ">")) {
+                    op.vendorExtensions.put("x-streaming-item-type", op.returnBaseType);
+                }
+            }
+        }
+
+        // for webclient, stream array bodies and streamed responses as Flux
+        if (WEBCLIENT.equals(getLibrary()) && reactiveStreaming) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
+            for (CodegenOperation op : operationList) {
+                if (op.returnType != null && !op.isListContainer && hasStreamingMediaType(op.produces)) {
+                    op.vendorExtensions.put("x-flux-response", Boolean.TRUE);
+                }
+                for (CodegenParameter param : op.allParams) {
+                    setFluxBodyDataType(param);
+                }
+                for (CodegenParameter param : op.bodyParams) {
+                    setFluxBodyDataType(param);
+                }
+                if (op.bodyParam != null) {
+                    setFluxBodyDataType(op.bodyParam);
+                }
+            }
+        }
+
         // for okhttp-gson (default), check to see if OAuth is defined and included OAuth-related files accordingly
         if ((OKHTTP_GSON.equals(getLibrary()) || StringUtils.isEmpty(getLibrary())) && ProcessUtils.hasOAuthMethods(objs)) {
             supportingFiles.add(new SupportingFile("auth/OAuthOkHttpClient.mustache", authFolder, "OAuthOkHttpClient.java"));
@@ -580,6 +669,91 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
+        objs = super.postProcessAllModels(objs);
+        if (!immutableModels) {
+            return objs;
+        }
+
+        // parents first, as the constructors of the children take the properties of their parents too
+        ModelGraph graph = ModelGraph.of(objs, this::toModelName);
+        for (CodegenModel model : graph.getTopologicalOrder()) {
+            if (model.isEnum) {
+                continue;
+            }
+            CodegenModel parent = graph.getModelByName(model.parent);
+            if (model.parent != null && (parent == null || !Boolean.TRUE.equals(parent.vendorExtensions.get("x-immutable")))) {
+                // e.g. array and map models, extending a mutable collection
+                continue;
+            }
+            List<CodegenProperty> superParams = parent != null
+                    ? (List<CodegenProperty>) parent.vendorExtensions.get("x-constructor-params")
+                    : Collections.<CodegenProperty>emptyList();
+            List<CodegenProperty> params = new ArrayList<CodegenProperty>(superParams);
+            Set<String> baseNames = new HashSet<String>();
+            for (CodegenProperty param : superParams) {
+                baseNames.add(param.baseName);
+            }
+            for (CodegenProperty var : model.vars) {
+                // a property redeclared by the child is passed on once, as the parent takes it
+                if (baseNames.add(var.baseName)) {
+                    params.add(var);
+                }
+            }
+
+            model.vendorExtensions.put("x-immutable", Boolean.TRUE);
+            model.vendorExtensions.put("x-super-params", copyWithHasMore(superParams));
+            model.vendorExtensions.put("x-constructor-params", copyWithHasMore(params));
+        }
+
+        // the constructors are annotated even if the model has no properties of its own
+        for (Object bundle : objs.values()) {
+            Map<String, Object> inner = (Map<String, Object>) bundle;
+            List<Map<String, String>> imports = (List<Map<String, String>>) inner.get("imports");
+            if (imports == null || !hasImmutableModel((List<Map<String, Object>>) inner.get("models"))) {
+                continue;
+            }
+            addImport(imports, "com.fasterxml.jackson.annotation.JsonCreator");
+            addImport(imports, "com.fasterxml.jackson.annotation.JsonProperty");
+        }
+        return objs;
+    }
+
+    private static boolean hasImmutableModel(List<Map<String, Object>> models) {
+        if (models != null) {
+            for (Map<String, Object> mo : models) {
+                CodegenModel model = (CodegenModel) mo.get("model");
+                if (model != null && Boolean.TRUE.equals(model.vendorExtensions.get("x-immutable"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<CodegenProperty> copyWithHasMore(List<CodegenProperty> properties) {
+        List<CodegenProperty> copies = new ArrayList<CodegenProperty>(properties.size());
+        for (Iterator<CodegenProperty> it = properties.iterator(); it.hasNext(); ) {
+            CodegenProperty copy = it.next().clone();
+            copy.hasMore = it.hasNext();
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    private static void addImport(List<Map<String, String>> imports, String importName) {
+        for (Map<String, String> existing : imports) {
+            if (importName.equals(existing.get("import"))) {
+                return;
+            }
+        }
+        Map<String, String> item = new HashMap<String, String>();
+        item.put("import", importName);
+        imports.add(item);
+    }
+
     @Override
     public Map<String, Object> postProcessModelsEnum(Map<String, Object> objs) {
         objs = super.postProcessModelsEnum(objs);
@@ -652,6 +826,46 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         this.useReflectionEqualsHashCode = useReflectionEqualsHashCode;
     }
 
+    public void setStreamingArrayResponses(boolean streamingArrayResponses) {
+        this.streamingArrayResponses = streamingArrayResponses;
+    }
+
+    public void setUseApacheConnector(boolean useApacheConnector) {
+        this.useApacheConnector = useApacheConnector;
+    }
+
+    public void setReactiveStreaming(boolean reactiveStreaming) {
+        this.reactiveStreaming = reactiveStreaming;
+    }
+
+    public void setImmutableModels(boolean immutableModels) {
+        this.immutableModels = immutableModels;
+    }
+
+    private static boolean hasStreamingMediaType(List<Map<String, String>> mediaTypes) {
+        if (mediaTypes != null) {
+            for (Map<String, String> mediaType : mediaTypes) {
+                String mime = mediaType.get("mediaType");
+                if (mime != null && STREAMING_MIME_PATTERN.matcher(mime).matches()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Changes the data type of array body parameters to Flux of their items, unless these are containers
+     * themselves; the body parameters of an operation are not necessarily the same instances in all lists.
+     */
+    private static void setFluxBodyDataType(CodegenParameter param) {
+        if (param.isBodyParam && param.isListContainer && param.items != null && !param.items.isContainer
+                && !param.dataType.startsWith("Flux<")) {
+            param.dataType = "Flux<" + param.items.dataType + ">";
+        }
+    }
+
+    final private static Pattern STREAMING_MIME_PATTERN = Pattern.compile("(?i)(application/stream\\+json|application/x-ndjson|text/event-stream)(;.*)?");
     final private static Pattern JSON_MIME_PATTERN = Pattern.compile("(?i)application\\/json(;.*)?");
     final private static Pattern JSON_VENDOR_MIME_PATTERN = Pattern.compile("(?i)application\\/vnd.(.*)+json(;.*)?");
 
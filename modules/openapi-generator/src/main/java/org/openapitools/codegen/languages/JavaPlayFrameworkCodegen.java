@@ -25,8 +25,6 @@ import java.io.File;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.openapitools.codegen.utils.StringUtils.camelize;
 
@@ -292,13 +290,7 @@ public class JavaPlayFrameworkCodegen extends AbstractJavaCodegen implements Bea
                     }
                 }
 
-                Pattern pathVariableMatcher = Pattern.compile("\\{([^}]+)}");
-                Matcher match = pathVariableMatcher.matcher(operation.path);
-                while (match.find()) {
-                    String completeMatch = match.group();
-                    String replacement = ":" + camelize(match.group(1), true);
-                    operation.path = operation.path.replace(completeMatch, replacement);
-                }
+                operation.path = operation.pathTemplate.render(part -> ":" + camelize(part.value, true));
 
                 if (operation.returnType != null) {
                     if (operation.returnType.equals("Boolean")) {
@@ -37,6 +37,8 @@ import java.util.regex.Pattern;
 
 public class JavaVertXServerCodegen extends AbstractJavaCodegen {
 
+    private static final Pattern UNDERSCORE_PATTERN = Pattern.compile("(_)(.)");
+
     protected String resourceFolder = "src/main/resources";
     protected String rootPackage = "org.openapitools.server.api";
     protected String apiVersion = "1.0.0-SNAPSHOT";
@@ -178,7 +180,7 @@ public class JavaVertXServerCodegen extends AbstractJavaCodegen {
                 }
 
                 if (operation.getHasPathParams()) {
-                    operation.path = camelizePath(operation.path);
+                    operation.path = camelizePath(operation.pathTemplate.render(part -> ":" + part.value));
                 }
 
             }
@@ -270,17 +272,10 @@ public class JavaVertXServerCodegen extends AbstractJavaCodegen {
 
     private String camelizePath(String path) {
         String word = path;
-        Pattern pattern = Pattern.compile("\\{([^/]*)\\}");
-        Matcher matcher = pattern.matcher(word);
-        while (matcher.find()) {
-            word = matcher.replaceFirst(":" + matcher.group(1));
-            matcher = pattern.matcher(word);
-        }
-        pattern = Pattern.compile("(_)(.)");
-        matcher = pattern.matcher(word);
+        Matcher matcher = UNDERSCORE_PATTERN.matcher(word);
         while (matcher.find()) {
             word = matcher.replaceFirst(matcher.group(2).toUpperCase(Locale.ROOT));
-            matcher = pattern.matcher(word);
+            matcher = UNDERSCORE_PATTERN.matcher(word);
         }
         return word;
     }
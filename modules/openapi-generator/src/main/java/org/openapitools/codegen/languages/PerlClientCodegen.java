@@ -44,7 +44,7 @@ public class PerlClientCodegen extends DefaultCodegen implements CodegenConfig {
     protected String apiDocPath = "docs/";
     protected String modelDocPath = "docs/";
 
-    protected static int emptyFunctionNameCounter = 0;
+    protected int emptyFunctionNameCounter = 0;
 
     public PerlClientCodegen() {
         super();
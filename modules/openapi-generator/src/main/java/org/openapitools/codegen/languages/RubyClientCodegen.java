@@ -64,7 +64,7 @@ public class RubyClientCodegen extends AbstractRubyCodegen {
     protected String apiDocPath = "docs/";
     protected String modelDocPath = "docs/";
 
-    protected static int emptyMethodNameCounter = 0;
+    protected int emptyMethodNameCounter = 0;
 
     public RubyClientCodegen() {
         super();
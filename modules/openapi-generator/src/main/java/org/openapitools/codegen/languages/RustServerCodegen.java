@@ -858,22 +858,7 @@ public class RustServerCodegen extends DefaultCodegen implements CodegenConfig {
     public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
         Map<String, Object> newObjs = super.postProcessAllModels(objs);
 
-        //Index all CodegenModels by model name.
-        HashMap<String, CodegenModel> allModels = new HashMap<String, CodegenModel>();
-        for (Entry<String, Object> entry : objs.entrySet()) {
-            String modelName = toModelName(entry.getKey());
-            Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-            List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-            for (Map<String, Object> mo : models) {
-                CodegenModel cm = (CodegenModel) mo.get("model");
-                allModels.put(modelName, cm);
-            }
-        }
-
-        for (Entry<String, CodegenModel> entry : allModels.entrySet()) {
-            String modelName = entry.getKey();
-            CodegenModel model = entry.getValue();
-
+        for (CodegenModel model : ModelGraph.of(objs, this::toModelName).getModelsByName().values()) {
             for (CodegenProperty prop : model.vars) {
                 String xmlName = modelXmlNames.get(prop.dataType);
                 if (xmlName != null) {
@@ -121,6 +121,7 @@ public class SpringCodegen extends AbstractJavaCodegen
         cliOptions.add(CliOption.newBoolean(USE_OPTIONAL,"Use Optional container for optional parameters", useOptional));
         cliOptions.add(CliOption.newBoolean(HATEOAS, "Use Spring HATEOAS library to allow adding HATEOAS links", hateoas));
         cliOptions.add(CliOption.newBoolean(RETURN_SUCCESS_CODE, "Generated server returns 2xx code", returnSuccessCode));
+        cliOptions.add(CliOption.newBoolean(USE_JACKSON_AFTERBURNER, "Register the Jackson Afterburner module, which generates bytecode to access model properties instead of using reflection (spring-boot and spring-mvc only)", useJacksonAfterburner));
 
         supportedLibraries.put(SPRING_BOOT, "Spring-boot Server application using the SpringFox integration.");
         supportedLibraries.put(SPRING_MVC_LIBRARY, "Spring-MVC Server application using the SpringFox integration.");
@@ -229,6 +230,12 @@ public class SpringCodegen extends AbstractJavaCodegen
             this.setReactive(Boolean.valueOf(additionalProperties.get(REACTIVE).toString()));
         }
 
+        if (useJacksonAfterburner && SPRING_CLOUD_LIBRARY.equals(library)) {
+            LOGGER.warn("The " + USE_JACKSON_AFTERBURNER + " option is only supported with spring-boot and spring-mvc, and is ignored");
+            this.setUseJacksonAfterburner(false);
+            additionalProperties.put(USE_JACKSON_AFTERBURNER, false);
+        }
+
         if (additionalProperties.containsKey(RESPONSE_WRAPPER)) {
             this.setResponseWrapper((String) additionalProperties.get(RESPONSE_WRAPPER));
         }
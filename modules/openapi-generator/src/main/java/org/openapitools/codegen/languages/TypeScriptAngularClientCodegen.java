@@ -470,25 +470,21 @@ public class TypeScriptAngularClientCodegen extends AbstractTypeScriptClientCode
     @Override
     public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
         Map<String, Object> result = super.postProcessAllModels(objs);
-        for (Map.Entry<String, Object> entry : result.entrySet()) {
-            Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-            List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-            for (Map<String, Object> mo : models) {
-                CodegenModel cm = (CodegenModel) mo.get("model");
-                if (taggedUnions) {
-                    mo.put(TAGGED_UNIONS, true);
-                    if (cm.discriminator != null && cm.children != null) {
-                        for (CodegenModel child : cm.children) {
-                            cm.imports.add(child.classname);
-                        }
-                    }
-                    if (cm.parent != null) {
-                        cm.imports.remove(cm.parent);
+        for (Map<String, Object> mo : ModelGraph.of(result, this::toModelName).getModelTemplates()) {
+            CodegenModel cm = (CodegenModel) mo.get("model");
+            if (taggedUnions) {
+                mo.put(TAGGED_UNIONS, true);
+                if (cm.discriminator != null && cm.children != null) {
+                    for (CodegenModel child : cm.children) {
+                        cm.imports.add(child.classname);
                     }
                 }
-                // Add additional filename information for imports
-                mo.put("tsImports", toTsImports(cm, cm.imports));
+                if (cm.parent != null) {
+                    cm.imports.remove(cm.parent);
+                }
             }
+            // Add additional filename information for imports
+            mo.put("tsImports", toTsImports(cm, cm.imports));
         }
         return result;
     }
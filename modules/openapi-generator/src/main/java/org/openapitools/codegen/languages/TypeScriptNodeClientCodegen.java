@@ -128,15 +128,11 @@ public class TypeScriptNodeClientCodegen extends AbstractTypeScriptClientCodegen
     public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
         Map<String, Object> result = super.postProcessAllModels(objs);
 
-        for (Map.Entry<String, Object> entry : result.entrySet()) {
-            Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-            List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-            for (Map<String, Object> mo : models) {
-                CodegenModel cm = (CodegenModel) mo.get("model");
-
-                // Add additional filename information for imports
-                mo.put("tsImports", toTsImports(cm, cm.imports));
-            }
+        for (Map<String, Object> mo : ModelGraph.of(result, this::toModelName).getModelTemplates()) {
+            CodegenModel cm = (CodegenModel) mo.get("model");
+
+            // Add additional filename information for imports
+            mo.put("tsImports", toTsImports(cm, cm.imports));
         }
         return result;
     }
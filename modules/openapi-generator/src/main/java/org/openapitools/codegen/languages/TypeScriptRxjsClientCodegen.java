@@ -173,13 +173,9 @@ public class TypeScriptRxjsClientCodegen extends AbstractTypeScriptClientCodegen
     @Override
     public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
         Map<String, Object> result = super.postProcessAllModels(objs);
-        for (Map.Entry<String, Object> entry : result.entrySet()) {
-            Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-            List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-            for (Map<String, Object> model : models) {
-                CodegenModel codegenModel = (CodegenModel) model.get("model");
-                model.put("hasImports", codegenModel.imports.size() > 0);
-            }
+        for (Map<String, Object> model : ModelGraph.of(result, this::toModelName).getModelTemplates()) {
+            CodegenModel codegenModel = (CodegenModel) model.get("model");
+            model.put("hasImports", codegenModel.imports.size() > 0);
         }
         return result;
     }
@@ -17,13 +17,8 @@
 
 package org.openapitools.codegen.mustache;
 
-import com.samskivert.mustache.Mustache;
-import com.samskivert.mustache.Template;
 import org.openapitools.codegen.CodegenConfig;
 
-import java.io.IOException;
-import java.io.Writer;
-
 import static org.openapitools.codegen.utils.StringUtils.camelize;
 
 /**
@@ -39,7 +34,7 @@ import static org.openapitools.codegen.utils.StringUtils.camelize;
  * {{#camelcase}}{{name}}{{/camelcase}}
  * </pre>
  */
-public class CamelCaseLambda implements Mustache.Lambda {
+public class CamelCaseLambda extends MemoizingLambda {
     private CodegenConfig generator = null;
     private Boolean escapeParam = false;
 
@@ -58,8 +53,8 @@ public class CamelCaseLambda implements Mustache.Lambda {
     }
 
     @Override
-    public void execute(Template.Fragment fragment, Writer writer) throws IOException {
-        String text = camelize(fragment.execute(), true);
+    protected String formatFragment(String text) {
+        text = camelize(text, true);
         if (generator != null) {
             text = generator.sanitizeName(text);
             if (generator.reservedWords().contains(text)) {
@@ -73,6 +68,6 @@ public class CamelCaseLambda implements Mustache.Lambda {
                 text = generator.toParamName(text);
             }
         }
-        writer.write(text);
+        return text;
     }
 }
@@ -1,13 +1,8 @@
 package org.openapitools.codegen.mustache;
 
 import com.google.common.base.CaseFormat;
-import com.samskivert.mustache.Mustache;
-import com.samskivert.mustache.Template;
 import org.openapitools.codegen.CodegenConfig;
 
-import java.io.IOException;
-import java.io.Writer;
-
 /**
  * Converts text from CaseFormat to another CaseFormat
  *
@@ -21,7 +16,7 @@ import java.io.Writer;
  * {{#convert}}{{name}}{{/convert}}
  * </pre>
  */
-public class CaseFormatLambda implements Mustache.Lambda {
+public class CaseFormatLambda extends MemoizingLambda {
     private CodegenConfig generator = null;
 
     private CaseFormat initialFormat;
@@ -38,11 +33,11 @@ public class CaseFormatLambda implements Mustache.Lambda {
     }
 
     @Override
-    public void execute(Template.Fragment fragment, Writer writer) throws IOException {
-        String text = initialFormat.converterTo(targetFormat).convert(fragment.execute());
+    protected String formatFragment(String text) {
+        text = initialFormat.converterTo(targetFormat).convert(text);
         if (generator != null && generator.reservedWords().contains(text)) {
             text = generator.escapeReservedWord(text);
         }
-        writer.write(text);
+        return text;
     }
 }
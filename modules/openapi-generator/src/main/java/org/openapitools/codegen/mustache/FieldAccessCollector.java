@@ -0,0 +1,367 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.mustache;
+
+import com.samskivert.mustache.DefaultCollector;
+import com.samskivert.mustache.Mustache;
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenParameter;
+import org.openapitools.codegen.CodegenProperty;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Collector reading the public fields of {@link CodegenModel}, {@link CodegenOperation}, {@link CodegenParameter} and
+ * {@link CodegenProperty} through accessors which read the field directly, instead of through reflective
+ * {@link Field#get(Object)} calls. Variables resolved by a method, fields hidden by a subclass, and the variables of
+ * any other class are left to jmustache's {@link DefaultCollector}, so that templates resolve exactly the same values.
+ * <p>
+ * Every public instance field of these classes must have an accessor here; FieldAccessCollectorTest checks this.
+ */
+public class FieldAccessCollector extends DefaultCollector {
+    private static final Map<Class<?>, Map<String, Mustache.VariableFetcher>> ACCESSORS = new HashMap<>();
+
+    static {
+        Map<String, Mustache.VariableFetcher> model = new HashMap<>();
+        model.put("parent", (ctx, name) -> ((CodegenModel) ctx).parent);
+        model.put("parentSchema", (ctx, name) -> ((CodegenModel) ctx).parentSchema);
+        model.put("interfaces", (ctx, name) -> ((CodegenModel) ctx).interfaces);
+        model.put("allParents", (ctx, name) -> ((CodegenModel) ctx).allParents);
+        model.put("parentModel", (ctx, name) -> ((CodegenModel) ctx).parentModel);
+        model.put("interfaceModels", (ctx, name) -> ((CodegenModel) ctx).interfaceModels);
+        model.put("children", (ctx, name) -> ((CodegenModel) ctx).children);
+        model.put("anyOf", (ctx, name) -> ((CodegenModel) ctx).anyOf);
+        model.put("oneOf", (ctx, name) -> ((CodegenModel) ctx).oneOf);
+        model.put("allOf", (ctx, name) -> ((CodegenModel) ctx).allOf);
+        model.put("name", (ctx, name) -> ((CodegenModel) ctx).name);
+        model.put("classname", (ctx, name) -> ((CodegenModel) ctx).classname);
+        model.put("title", (ctx, name) -> ((CodegenModel) ctx).title);
+        model.put("description", (ctx, name) -> ((CodegenModel) ctx).description);
+        model.put("classVarName", (ctx, name) -> ((CodegenModel) ctx).classVarName);
+        model.put("modelJson", (ctx, name) -> ((CodegenModel) ctx).modelJson);
+        model.put("dataType", (ctx, name) -> ((CodegenModel) ctx).dataType);
+        model.put("xmlPrefix", (ctx, name) -> ((CodegenModel) ctx).xmlPrefix);
+        model.put("xmlNamespace", (ctx, name) -> ((CodegenModel) ctx).xmlNamespace);
+        model.put("xmlName", (ctx, name) -> ((CodegenModel) ctx).xmlName);
+        model.put("classFilename", (ctx, name) -> ((CodegenModel) ctx).classFilename);
+        model.put("unescapedDescription", (ctx, name) -> ((CodegenModel) ctx).unescapedDescription);
+        model.put("discriminator", (ctx, name) -> ((CodegenModel) ctx).discriminator);
+        model.put("defaultValue", (ctx, name) -> ((CodegenModel) ctx).defaultValue);
+        model.put("arrayModelType", (ctx, name) -> ((CodegenModel) ctx).arrayModelType);
+        model.put("isAlias", (ctx, name) -> ((CodegenModel) ctx).isAlias);
+        model.put("isString", (ctx, name) -> ((CodegenModel) ctx).isString);
+        model.put("isInteger", (ctx, name) -> ((CodegenModel) ctx).isInteger);
+        model.put("vars", (ctx, name) -> ((CodegenModel) ctx).vars);
+        model.put("allVars", (ctx, name) -> ((CodegenModel) ctx).allVars);
+        model.put("requiredVars", (ctx, name) -> ((CodegenModel) ctx).requiredVars);
+        model.put("optionalVars", (ctx, name) -> ((CodegenModel) ctx).optionalVars);
+        model.put("readOnlyVars", (ctx, name) -> ((CodegenModel) ctx).readOnlyVars);
+        model.put("readWriteVars", (ctx, name) -> ((CodegenModel) ctx).readWriteVars);
+        model.put("parentVars", (ctx, name) -> ((CodegenModel) ctx).parentVars);
+        model.put("allowableValues", (ctx, name) -> ((CodegenModel) ctx).allowableValues);
+        model.put("mandatory", (ctx, name) -> ((CodegenModel) ctx).mandatory);
+        model.put("allMandatory", (ctx, name) -> ((CodegenModel) ctx).allMandatory);
+        model.put("imports", (ctx, name) -> ((CodegenModel) ctx).imports);
+        model.put("hasVars", (ctx, name) -> ((CodegenModel) ctx).hasVars);
+        model.put("emptyVars", (ctx, name) -> ((CodegenModel) ctx).emptyVars);
+        model.put("hasMoreModels", (ctx, name) -> ((CodegenModel) ctx).hasMoreModels);
+        model.put("hasEnums", (ctx, name) -> ((CodegenModel) ctx).hasEnums);
+        model.put("isEnum", (ctx, name) -> ((CodegenModel) ctx).isEnum);
+        model.put("hasRequired", (ctx, name) -> ((CodegenModel) ctx).hasRequired);
+        model.put("hasOptional", (ctx, name) -> ((CodegenModel) ctx).hasOptional);
+        model.put("isArrayModel", (ctx, name) -> ((CodegenModel) ctx).isArrayModel);
+        model.put("hasChildren", (ctx, name) -> ((CodegenModel) ctx).hasChildren);
+        model.put("isMapModel", (ctx, name) -> ((CodegenModel) ctx).isMapModel);
+        model.put("hasOnlyReadOnly", (ctx, name) -> ((CodegenModel) ctx).hasOnlyReadOnly);
+        model.put("externalDocumentation", (ctx, name) -> ((CodegenModel) ctx).externalDocumentation);
+        model.put("vendorExtensions", (ctx, name) -> ((CodegenModel) ctx).vendorExtensions);
+        model.put("additionalPropertiesType", (ctx, name) -> ((CodegenModel) ctx).additionalPropertiesType);
+        ACCESSORS.put(CodegenModel.class, model);
+
+        Map<String, Mustache.VariableFetcher> operation = new HashMap<>();
+        operation.put("responseHeaders", (ctx, name) -> ((CodegenOperation) ctx).responseHeaders);
+        operation.put("hasAuthMethods", (ctx, name) -> ((CodegenOperation) ctx).hasAuthMethods);
+        operation.put("hasConsumes", (ctx, name) -> ((CodegenOperation) ctx).hasConsumes);
+        operation.put("hasProduces", (ctx, name) -> ((CodegenOperation) ctx).hasProduces);
+        operation.put("hasParams", (ctx, name) -> ((CodegenOperation) ctx).hasParams);
+        operation.put("hasOptionalParams", (ctx, name) -> ((CodegenOperation) ctx).hasOptionalParams);
+        operation.put("hasRequiredParams", (ctx, name) -> ((CodegenOperation) ctx).hasRequiredParams);
+        operation.put("returnTypeIsPrimitive", (ctx, name) -> ((CodegenOperation) ctx).returnTypeIsPrimitive);
+        operation.put("returnSimpleType", (ctx, name) -> ((CodegenOperation) ctx).returnSimpleType);
+        operation.put("subresourceOperation", (ctx, name) -> ((CodegenOperation) ctx).subresourceOperation);
+        operation.put("isMapContainer", (ctx, name) -> ((CodegenOperation) ctx).isMapContainer);
+        operation.put("isListContainer", (ctx, name) -> ((CodegenOperation) ctx).isListContainer);
+        operation.put("isMultipart", (ctx, name) -> ((CodegenOperation) ctx).isMultipart);
+        operation.put("hasMore", (ctx, name) -> ((CodegenOperation) ctx).hasMore);
+        operation.put("isResponseBinary", (ctx, name) -> ((CodegenOperation) ctx).isResponseBinary);
+        operation.put("isResponseFile", (ctx, name) -> ((CodegenOperation) ctx).isResponseFile);
+        operation.put("hasReference", (ctx, name) -> ((CodegenOperation) ctx).hasReference);
+        operation.put("isRestfulIndex", (ctx, name) -> ((CodegenOperation) ctx).isRestfulIndex);
+        operation.put("isRestfulShow", (ctx, name) -> ((CodegenOperation) ctx).isRestfulShow);
+        operation.put("isRestfulCreate", (ctx, name) -> ((CodegenOperation) ctx).isRestfulCreate);
+        operation.put("isRestfulUpdate", (ctx, name) -> ((CodegenOperation) ctx).isRestfulUpdate);
+        operation.put("isRestfulDestroy", (ctx, name) -> ((CodegenOperation) ctx).isRestfulDestroy);
+        operation.put("isRestful", (ctx, name) -> ((CodegenOperation) ctx).isRestful);
+        operation.put("isDeprecated", (ctx, name) -> ((CodegenOperation) ctx).isDeprecated);
+        operation.put("isCallbackRequest", (ctx, name) -> ((CodegenOperation) ctx).isCallbackRequest);
+        operation.put("path", (ctx, name) -> ((CodegenOperation) ctx).path);
+        operation.put("operationId", (ctx, name) -> ((CodegenOperation) ctx).operationId);
+        operation.put("returnType", (ctx, name) -> ((CodegenOperation) ctx).returnType);
+        operation.put("httpMethod", (ctx, name) -> ((CodegenOperation) ctx).httpMethod);
+        operation.put("returnBaseType", (ctx, name) -> ((CodegenOperation) ctx).returnBaseType);
+        operation.put("returnContainer", (ctx, name) -> ((CodegenOperation) ctx).returnContainer);
+        operation.put("summary", (ctx, name) -> ((CodegenOperation) ctx).summary);
+        operation.put("unescapedNotes", (ctx, name) -> ((CodegenOperation) ctx).unescapedNotes);
+        operation.put("notes", (ctx, name) -> ((CodegenOperation) ctx).notes);
+        operation.put("baseName", (ctx, name) -> ((CodegenOperation) ctx).baseName);
+        operation.put("defaultResponse", (ctx, name) -> ((CodegenOperation) ctx).defaultResponse);
+        operation.put("discriminator", (ctx, name) -> ((CodegenOperation) ctx).discriminator);
+        operation.put("consumes", (ctx, name) -> ((CodegenOperation) ctx).consumes);
+        operation.put("produces", (ctx, name) -> ((CodegenOperation) ctx).produces);
+        operation.put("prioritizedContentTypes", (ctx, name) -> ((CodegenOperation) ctx).prioritizedContentTypes);
+        operation.put("servers", (ctx, name) -> ((CodegenOperation) ctx).servers);
+        operation.put("bodyParam", (ctx, name) -> ((CodegenOperation) ctx).bodyParam);
+        operation.put("allParams", (ctx, name) -> ((CodegenOperation) ctx).allParams);
+        operation.put("bodyParams", (ctx, name) -> ((CodegenOperation) ctx).bodyParams);
+        operation.put("pathParams", (ctx, name) -> ((CodegenOperation) ctx).pathParams);
+        operation.put("queryParams", (ctx, name) -> ((CodegenOperation) ctx).queryParams);
+        operation.put("headerParams", (ctx, name) -> ((CodegenOperation) ctx).headerParams);
+        operation.put("formParams", (ctx, name) -> ((CodegenOperation) ctx).formParams);
+        operation.put("cookieParams", (ctx, name) -> ((CodegenOperation) ctx).cookieParams);
+        operation.put("requiredParams", (ctx, name) -> ((CodegenOperation) ctx).requiredParams);
+        operation.put("optionalParams", (ctx, name) -> ((CodegenOperation) ctx).optionalParams);
+        operation.put("pathTemplate", (ctx, name) -> ((CodegenOperation) ctx).pathTemplate);
+        operation.put("authMethods", (ctx, name) -> ((CodegenOperation) ctx).authMethods);
+        operation.put("tags", (ctx, name) -> ((CodegenOperation) ctx).tags);
+        operation.put("responses", (ctx, name) -> ((CodegenOperation) ctx).responses);
+        operation.put("callbacks", (ctx, name) -> ((CodegenOperation) ctx).callbacks);
+        operation.put("imports", (ctx, name) -> ((CodegenOperation) ctx).imports);
+        operation.put("examples", (ctx, name) -> ((CodegenOperation) ctx).examples);
+        operation.put("requestBodyExamples", (ctx, name) -> ((CodegenOperation) ctx).requestBodyExamples);
+        operation.put("externalDocs", (ctx, name) -> ((CodegenOperation) ctx).externalDocs);
+        operation.put("vendorExtensions", (ctx, name) -> ((CodegenOperation) ctx).vendorExtensions);
+        operation.put("nickname", (ctx, name) -> ((CodegenOperation) ctx).nickname);
+        operation.put("operationIdOriginal", (ctx, name) -> ((CodegenOperation) ctx).operationIdOriginal);
+        operation.put("operationIdLowerCase", (ctx, name) -> ((CodegenOperation) ctx).operationIdLowerCase);
+        operation.put("operationIdCamelCase", (ctx, name) -> ((CodegenOperation) ctx).operationIdCamelCase);
+        operation.put("operationIdSnakeCase", (ctx, name) -> ((CodegenOperation) ctx).operationIdSnakeCase);
+        ACCESSORS.put(CodegenOperation.class, operation);
+
+        Map<String, Mustache.VariableFetcher> parameter = new HashMap<>();
+        parameter.put("isFormParam", (ctx, name) -> ((CodegenParameter) ctx).isFormParam);
+        parameter.put("isQueryParam", (ctx, name) -> ((CodegenParameter) ctx).isQueryParam);
+        parameter.put("isPathParam", (ctx, name) -> ((CodegenParameter) ctx).isPathParam);
+        parameter.put("isHeaderParam", (ctx, name) -> ((CodegenParameter) ctx).isHeaderParam);
+        parameter.put("isCookieParam", (ctx, name) -> ((CodegenParameter) ctx).isCookieParam);
+        parameter.put("isBodyParam", (ctx, name) -> ((CodegenParameter) ctx).isBodyParam);
+        parameter.put("hasMore", (ctx, name) -> ((CodegenParameter) ctx).hasMore);
+        parameter.put("isContainer", (ctx, name) -> ((CodegenParameter) ctx).isContainer);
+        parameter.put("secondaryParam", (ctx, name) -> ((CodegenParameter) ctx).secondaryParam);
+        parameter.put("isCollectionFormatMulti", (ctx, name) -> ((CodegenParameter) ctx).isCollectionFormatMulti);
+        parameter.put("isPrimitiveType", (ctx, name) -> ((CodegenParameter) ctx).isPrimitiveType);
+        parameter.put("isModel", (ctx, name) -> ((CodegenParameter) ctx).isModel);
+        parameter.put("baseName", (ctx, name) -> ((CodegenParameter) ctx).baseName);
+        parameter.put("paramName", (ctx, name) -> ((CodegenParameter) ctx).paramName);
+        parameter.put("dataType", (ctx, name) -> ((CodegenParameter) ctx).dataType);
+        parameter.put("datatypeWithEnum", (ctx, name) -> ((CodegenParameter) ctx).datatypeWithEnum);
+        parameter.put("dataFormat", (ctx, name) -> ((CodegenParameter) ctx).dataFormat);
+        parameter.put("collectionFormat", (ctx, name) -> ((CodegenParameter) ctx).collectionFormat);
+        parameter.put("description", (ctx, name) -> ((CodegenParameter) ctx).description);
+        parameter.put("unescapedDescription", (ctx, name) -> ((CodegenParameter) ctx).unescapedDescription);
+        parameter.put("baseType", (ctx, name) -> ((CodegenParameter) ctx).baseType);
+        parameter.put("defaultValue", (ctx, name) -> ((CodegenParameter) ctx).defaultValue);
+        parameter.put("enumName", (ctx, name) -> ((CodegenParameter) ctx).enumName);
+        parameter.put("example", (ctx, name) -> ((CodegenParameter) ctx).example);
+        parameter.put("jsonSchema", (ctx, name) -> ((CodegenParameter) ctx).jsonSchema);
+        parameter.put("isString", (ctx, name) -> ((CodegenParameter) ctx).isString);
+        parameter.put("isNumeric", (ctx, name) -> ((CodegenParameter) ctx).isNumeric);
+        parameter.put("isInteger", (ctx, name) -> ((CodegenParameter) ctx).isInteger);
+        parameter.put("isLong", (ctx, name) -> ((CodegenParameter) ctx).isLong);
+        parameter.put("isNumber", (ctx, name) -> ((CodegenParameter) ctx).isNumber);
+        parameter.put("isFloat", (ctx, name) -> ((CodegenParameter) ctx).isFloat);
+        parameter.put("isDouble", (ctx, name) -> ((CodegenParameter) ctx).isDouble);
+        parameter.put("isByteArray", (ctx, name) -> ((CodegenParameter) ctx).isByteArray);
+        parameter.put("isBinary", (ctx, name) -> ((CodegenParameter) ctx).isBinary);
+        parameter.put("isBoolean", (ctx, name) -> ((CodegenParameter) ctx).isBoolean);
+        parameter.put("isDate", (ctx, name) -> ((CodegenParameter) ctx).isDate);
+        parameter.put("isDateTime", (ctx, name) -> ((CodegenParameter) ctx).isDateTime);
+        parameter.put("isUuid", (ctx, name) -> ((CodegenParameter) ctx).isUuid);
+        parameter.put("isEmail", (ctx, name) -> ((CodegenParameter) ctx).isEmail);
+        parameter.put("isFreeFormObject", (ctx, name) -> ((CodegenParameter) ctx).isFreeFormObject);
+        parameter.put("isListContainer", (ctx, name) -> ((CodegenParameter) ctx).isListContainer);
+        parameter.put("isMapContainer", (ctx, name) -> ((CodegenParameter) ctx).isMapContainer);
+        parameter.put("isFile", (ctx, name) -> ((CodegenParameter) ctx).isFile);
+        parameter.put("isEnum", (ctx, name) -> ((CodegenParameter) ctx).isEnum);
+        parameter.put("_enum", (ctx, name) -> ((CodegenParameter) ctx)._enum);
+        parameter.put("allowableValues", (ctx, name) -> ((CodegenParameter) ctx).allowableValues);
+        parameter.put("items", (ctx, name) -> ((CodegenParameter) ctx).items);
+        parameter.put("mostInnerItems", (ctx, name) -> ((CodegenParameter) ctx).mostInnerItems);
+        parameter.put("vendorExtensions", (ctx, name) -> ((CodegenParameter) ctx).vendorExtensions);
+        parameter.put("hasValidation", (ctx, name) -> ((CodegenParameter) ctx).hasValidation);
+        parameter.put("isNullable", (ctx, name) -> ((CodegenParameter) ctx).isNullable);
+        parameter.put("required", (ctx, name) -> ((CodegenParameter) ctx).required);
+        parameter.put("maximum", (ctx, name) -> ((CodegenParameter) ctx).maximum);
+        parameter.put("exclusiveMaximum", (ctx, name) -> ((CodegenParameter) ctx).exclusiveMaximum);
+        parameter.put("minimum", (ctx, name) -> ((CodegenParameter) ctx).minimum);
+        parameter.put("exclusiveMinimum", (ctx, name) -> ((CodegenParameter) ctx).exclusiveMinimum);
+        parameter.put("maxLength", (ctx, name) -> ((CodegenParameter) ctx).maxLength);
+        parameter.put("minLength", (ctx, name) -> ((CodegenParameter) ctx).minLength);
+        parameter.put("pattern", (ctx, name) -> ((CodegenParameter) ctx).pattern);
+        parameter.put("maxItems", (ctx, name) -> ((CodegenParameter) ctx).maxItems);
+        parameter.put("minItems", (ctx, name) -> ((CodegenParameter) ctx).minItems);
+        parameter.put("uniqueItems", (ctx, name) -> ((CodegenParameter) ctx).uniqueItems);
+        parameter.put("multipleOf", (ctx, name) -> ((CodegenParameter) ctx).multipleOf);
+        ACCESSORS.put(CodegenParameter.class, parameter);
+
+        Map<String, Mustache.VariableFetcher> property = new HashMap<>();
+        property.put("openApiType", (ctx, name) -> ((CodegenProperty) ctx).openApiType);
+        property.put("baseName", (ctx, name) -> ((CodegenProperty) ctx).baseName);
+        property.put("complexType", (ctx, name) -> ((CodegenProperty) ctx).complexType);
+        property.put("getter", (ctx, name) -> ((CodegenProperty) ctx).getter);
+        property.put("setter", (ctx, name) -> ((CodegenProperty) ctx).setter);
+        property.put("description", (ctx, name) -> ((CodegenProperty) ctx).description);
+        property.put("dataType", (ctx, name) -> ((CodegenProperty) ctx).dataType);
+        property.put("datatypeWithEnum", (ctx, name) -> ((CodegenProperty) ctx).datatypeWithEnum);
+        property.put("dataFormat", (ctx, name) -> ((CodegenProperty) ctx).dataFormat);
+        property.put("name", (ctx, name) -> ((CodegenProperty) ctx).name);
+        property.put("min", (ctx, name) -> ((CodegenProperty) ctx).min);
+        property.put("max", (ctx, name) -> ((CodegenProperty) ctx).max);
+        property.put("defaultValue", (ctx, name) -> ((CodegenProperty) ctx).defaultValue);
+        property.put("defaultValueWithParam", (ctx, name) -> ((CodegenProperty) ctx).defaultValueWithParam);
+        property.put("baseType", (ctx, name) -> ((CodegenProperty) ctx).baseType);
+        property.put("containerType", (ctx, name) -> ((CodegenProperty) ctx).containerType);
+        property.put("title", (ctx, name) -> ((CodegenProperty) ctx).title);
+        property.put("unescapedDescription", (ctx, name) -> ((CodegenProperty) ctx).unescapedDescription);
+        property.put("maxLength", (ctx, name) -> ((CodegenProperty) ctx).maxLength);
+        property.put("minLength", (ctx, name) -> ((CodegenProperty) ctx).minLength);
+        property.put("pattern", (ctx, name) -> ((CodegenProperty) ctx).pattern);
+        property.put("example", (ctx, name) -> ((CodegenProperty) ctx).example);
+        property.put("jsonSchema", (ctx, name) -> ((CodegenProperty) ctx).jsonSchema);
+        property.put("minimum", (ctx, name) -> ((CodegenProperty) ctx).minimum);
+        property.put("maximum", (ctx, name) -> ((CodegenProperty) ctx).maximum);
+        property.put("exclusiveMinimum", (ctx, name) -> ((CodegenProperty) ctx).exclusiveMinimum);
+        property.put("exclusiveMaximum", (ctx, name) -> ((CodegenProperty) ctx).exclusiveMaximum);
+        property.put("hasMore", (ctx, name) -> ((CodegenProperty) ctx).hasMore);
+        property.put("required", (ctx, name) -> ((CodegenProperty) ctx).required);
+        property.put("secondaryParam", (ctx, name) -> ((CodegenProperty) ctx).secondaryParam);
+        property.put("hasMoreNonReadOnly", (ctx, name) -> ((CodegenProperty) ctx).hasMoreNonReadOnly);
+        property.put("isPrimitiveType", (ctx, name) -> ((CodegenProperty) ctx).isPrimitiveType);
+        property.put("isModel", (ctx, name) -> ((CodegenProperty) ctx).isModel);
+        property.put("isContainer", (ctx, name) -> ((CodegenProperty) ctx).isContainer);
+        property.put("isString", (ctx, name) -> ((CodegenProperty) ctx).isString);
+        property.put("isNumeric", (ctx, name) -> ((CodegenProperty) ctx).isNumeric);
+        property.put("isInteger", (ctx, name) -> ((CodegenProperty) ctx).isInteger);
+        property.put("isLong", (ctx, name) -> ((CodegenProperty) ctx).isLong);
+        property.put("isNumber", (ctx, name) -> ((CodegenProperty) ctx).isNumber);
+        property.put("isFloat", (ctx, name) -> ((CodegenProperty) ctx).isFloat);
+        property.put("isDouble", (ctx, name) -> ((CodegenProperty) ctx).isDouble);
+        property.put("isByteArray", (ctx, name) -> ((CodegenProperty) ctx).isByteArray);
+        property.put("isBinary", (ctx, name) -> ((CodegenProperty) ctx).isBinary);
+        property.put("isFile", (ctx, name) -> ((CodegenProperty) ctx).isFile);
+        property.put("isBoolean", (ctx, name) -> ((CodegenProperty) ctx).isBoolean);
+        property.put("isDate", (ctx, name) -> ((CodegenProperty) ctx).isDate);
+        property.put("isDateTime", (ctx, name) -> ((CodegenProperty) ctx).isDateTime);
+        property.put("isUuid", (ctx, name) -> ((CodegenProperty) ctx).isUuid);
+        property.put("isEmail", (ctx, name) -> ((CodegenProperty) ctx).isEmail);
+        property.put("isFreeFormObject", (ctx, name) -> ((CodegenProperty) ctx).isFreeFormObject);
+        property.put("isListContainer", (ctx, name) -> ((CodegenProperty) ctx).isListContainer);
+        property.put("isMapContainer", (ctx, name) -> ((CodegenProperty) ctx).isMapContainer);
+        property.put("isEnum", (ctx, name) -> ((CodegenProperty) ctx).isEnum);
+        property.put("isReadOnly", (ctx, name) -> ((CodegenProperty) ctx).isReadOnly);
+        property.put("isWriteOnly", (ctx, name) -> ((CodegenProperty) ctx).isWriteOnly);
+        property.put("isNullable", (ctx, name) -> ((CodegenProperty) ctx).isNullable);
+        property.put("isSelfReference", (ctx, name) -> ((CodegenProperty) ctx).isSelfReference);
+        property.put("_enum", (ctx, name) -> ((CodegenProperty) ctx)._enum);
+        property.put("allowableValues", (ctx, name) -> ((CodegenProperty) ctx).allowableValues);
+        property.put("items", (ctx, name) -> ((CodegenProperty) ctx).items);
+        property.put("mostInnerItems", (ctx, name) -> ((CodegenProperty) ctx).mostInnerItems);
+        property.put("vendorExtensions", (ctx, name) -> ((CodegenProperty) ctx).vendorExtensions);
+        property.put("hasValidation", (ctx, name) -> ((CodegenProperty) ctx).hasValidation);
+        property.put("isInherited", (ctx, name) -> ((CodegenProperty) ctx).isInherited);
+        property.put("discriminatorValue", (ctx, name) -> ((CodegenProperty) ctx).discriminatorValue);
+        property.put("nameInCamelCase", (ctx, name) -> ((CodegenProperty) ctx).nameInCamelCase);
+        property.put("nameInSnakeCase", (ctx, name) -> ((CodegenProperty) ctx).nameInSnakeCase);
+        property.put("enumName", (ctx, name) -> ((CodegenProperty) ctx).enumName);
+        property.put("maxItems", (ctx, name) -> ((CodegenProperty) ctx).maxItems);
+        property.put("minItems", (ctx, name) -> ((CodegenProperty) ctx).minItems);
+        property.put("isXmlAttribute", (ctx, name) -> ((CodegenProperty) ctx).isXmlAttribute);
+        property.put("xmlPrefix", (ctx, name) -> ((CodegenProperty) ctx).xmlPrefix);
+        property.put("xmlName", (ctx, name) -> ((CodegenProperty) ctx).xmlName);
+        property.put("xmlNamespace", (ctx, name) -> ((CodegenProperty) ctx).xmlNamespace);
+        property.put("isXmlWrapped", (ctx, name) -> ((CodegenProperty) ctx).isXmlWrapped);
+        ACCESSORS.put(CodegenProperty.class, property);
+    }
+
+    // accessor per concrete class (including generator-specific subclasses) and variable name, or NOT_AN_ACCESSOR
+    private static final ClassValue<ConcurrentMap<String, Mustache.VariableFetcher>> FETCHERS =
+            new ClassValue<ConcurrentMap<String, Mustache.VariableFetcher>>() {
+                @Override
+                protected ConcurrentMap<String, Mustache.VariableFetcher> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    private static final Mustache.VariableFetcher NOT_AN_ACCESSOR = (ctx, name) -> null;
+
+    @Override
+    public Mustache.VariableFetcher createFetcher(Object ctx, String name) {
+        Class<?> cclass = ctx.getClass();
+        Class<?> accessorClass = accessorClass(cclass);
+        if (accessorClass == null) {
+            return super.createFetcher(ctx, name);
+        }
+
+        Mustache.VariableFetcher fetcher = FETCHERS.get(cclass)
+                .computeIfAbsent(name, n -> findAccessor(cclass, accessorClass, n));
+        return fetcher != NOT_AN_ACCESSOR ? fetcher : super.createFetcher(ctx, name);
+    }
+
+    private Mustache.VariableFetcher findAccessor(Class<?> cclass, Class<?> accessorClass, String name) {
+        Mustache.VariableFetcher accessor = ACCESSORS.get(accessorClass).get(name);
+        // the default collector prefers methods (name(), getName(), isName()) over fields
+        if (accessor == null || getMethod(cclass, name) != null) {
+            return NOT_AN_ACCESSOR;
+        }
+        // a subclass may declare a field of the same name, which hides the one the accessor reads
+        Field field = getField(cclass, name);
+        return field != null && field.getDeclaringClass() == accessorClass ? accessor : NOT_AN_ACCESSOR;
+    }
+
+    private static Class<?> accessorClass(Class<?> cclass) {
+        for (Class<?> type = cclass; type != null; type = type.getSuperclass()) {
+            if (ACCESSORS.containsKey(type)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param type one of the classes with accessors
+     * @return the names of the fields of the class which have an accessor
+     */
+    static Set<String> accessorNames(Class<?> type) {
+        Map<String, Mustache.VariableFetcher> accessors = ACCESSORS.get(type);
+        return accessors != null ? accessors.keySet() : Collections.<String>emptySet();
+    }
+}
@@ -17,13 +17,8 @@
 
 package org.openapitools.codegen.mustache;
 
-import com.samskivert.mustache.Mustache;
-import com.samskivert.mustache.Template;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.IOException;
-import java.io.Writer;
-
 /**
  * This naively prepends indention to all lines of a fragment.
  * <p>
@@ -41,7 +36,7 @@ import java.io.Writer;
  *         {{#indent8}}{{>other_template}}{{/indent8}}
  * }</pre>
  */
-public class IndentedLambda implements Mustache.Lambda {
+public class IndentedLambda extends MemoizingLambda {
     private final int prefixSpaceCount;
     private final String prefix;
     private int spaceCode;
@@ -106,10 +101,9 @@ public class IndentedLambda implements Mustache.Lambda {
     }
 
     @Override
-    public void execute(Template.Fragment fragment, Writer writer) throws IOException {
-        String text = fragment.execute();
+    protected String formatFragment(String text) {
         if (text == null || text.length() == 0) {
-            return;
+            return "";
         }
 
         String prefixedIndention = StringUtils.repeat(new String(Character.toChars(spaceCode)), prefixSpaceCount);
@@ -131,6 +125,6 @@ public class IndentedLambda implements Mustache.Lambda {
                 sb.append(System.lineSeparator());
             }
         }
-        writer.write(sb.toString());
+        return sb.toString();
     }
 }
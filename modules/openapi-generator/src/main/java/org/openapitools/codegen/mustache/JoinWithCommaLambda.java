@@ -17,13 +17,8 @@
 
 package org.openapitools.codegen.mustache;
 
-import com.samskivert.mustache.Mustache;
-import com.samskivert.mustache.Template;
 import org.openapitools.codegen.CodegenConfig;
 
-import java.io.IOException;
-import java.io.Writer;
-
 /**
  * Split text by 2 spaces and then join the strings with ", "
  *
@@ -37,7 +32,7 @@ import java.io.Writer;
  * {{#joinWithComma}}{{name}}{{/joinWithComma}}
  * </pre>
  */
-public class JoinWithCommaLambda implements Mustache.Lambda {
+public class JoinWithCommaLambda extends MemoizingLambda {
     private CodegenConfig generator = null;
 
     public JoinWithCommaLambda() {
@@ -50,9 +45,9 @@ public class JoinWithCommaLambda implements Mustache.Lambda {
     }
 
     @Override
-    public void execute(Template.Fragment fragment, Writer writer) throws IOException {
-        String[] substr = fragment.execute().trim().split("  ");
+    protected String formatFragment(String text) {
+        String[] substr = text.trim().split("  ");
 
-        writer.write(String.join(", ", substr));
+        return String.join(", ", substr);
     }
 }
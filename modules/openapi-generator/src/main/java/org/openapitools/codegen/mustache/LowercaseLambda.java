@@ -17,12 +17,8 @@
 
 package org.openapitools.codegen.mustache;
 
-import com.samskivert.mustache.Mustache;
-import com.samskivert.mustache.Template;
 import org.openapitools.codegen.CodegenConfig;
 
-import java.io.IOException;
-import java.io.Writer;
 import java.util.Locale;
 
 /**
@@ -38,7 +34,7 @@ import java.util.Locale;
  * {{#lowercase}}{{httpMethod}}{{/lowercase}}
  * </pre>
  */
-public class LowercaseLambda implements Mustache.Lambda {
+public class LowercaseLambda extends MemoizingLambda {
     private CodegenConfig generator = null;
 
     public LowercaseLambda() {
@@ -51,12 +47,11 @@ public class LowercaseLambda implements Mustache.Lambda {
     }
 
     @Override
-    public void execute(Template.Fragment fragment, Writer writer) throws IOException {
-        String text = fragment.execute().toLowerCase(Locale.ROOT);
+    protected String formatFragment(String text) {
+        text = text.toLowerCase(Locale.ROOT);
         if (generator != null && generator.reservedWords().contains(text)) {
             text = generator.escapeReservedWord(text);
         }
-        writer.write(text);
-
+        return text;
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.mustache;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class of lambdas which transform the text of their fragment, where the result depends only on that text and on
+ * the configuration of the lambda. The fragment itself is always executed, since its text depends on the context, but
+ * each distinct text is transformed only once: results are kept in a bounded cache, which is discarded along with the
+ * lambda at the end of the generator run.
+ * <p>
+ * Each lambda counts its invocations, cache hits and the time spent transforming text; these are logged at the end of
+ * a run when the <code>debugLambdas</code> system property is set.
+ */
+public abstract class MemoizingLambda implements Mustache.Lambda, Serializable {
+    // bounds of the cache: the number of results kept, and the length of the texts worth keeping
+    static final int MAX_CACHED_RESULTS = 4096;
+    static final int MAX_CACHED_TEXT_LENGTH = 1024;
+
+    private transient Map<String, String> cache;
+    private transient long invocations;
+    private transient long cacheHits;
+    private transient long nanos;
+
+    /**
+     * Transforms the text of a fragment. Must not depend on anything but the text and the configuration of the lambda.
+     *
+     * @param text the executed fragment
+     * @return the text to write in place of the fragment
+     */
+    protected abstract String formatFragment(String text);
+
+    @Override
+    public void execute(Template.Fragment fragment, Writer writer) throws IOException {
+        writer.write(format(fragment.execute()));
+    }
+
+    /**
+     * Transforms text as {@link #formatFragment(String)} does, reusing the result of an earlier call with the same text.
+     *
+     * @param text the executed fragment
+     * @return the text to write in place of the fragment
+     */
+    public String format(String text) {
+        long start = System.nanoTime();
+        invocations++;
+        String result = null;
+        boolean cacheable = text.length() <= MAX_CACHED_TEXT_LENGTH;
+        if (cacheable && cache != null) {
+            result = cache.get(text);
+        }
+        if (result != null) {
+            cacheHits++;
+        } else {
+            result = formatFragment(text);
+            if (cacheable) {
+                cache().put(text, result);
+            }
+        }
+        nanos += System.nanoTime() - start;
+        return result;
+    }
+
+    private Map<String, String> cache() {
+        if (cache == null) {
+            cache = new LinkedHashMap<String, String>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > MAX_CACHED_RESULTS;
+                }
+            };
+        }
+        return cache;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * @return The time spent in {@link #format(String)}, excluding the execution of fragments, in milliseconds.
+     */
+    public long getMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
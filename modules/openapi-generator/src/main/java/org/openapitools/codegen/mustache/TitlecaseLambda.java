@@ -17,11 +17,6 @@
 
 package org.openapitools.codegen.mustache;
 
-import com.samskivert.mustache.Mustache;
-import com.samskivert.mustache.Template;
-
-import java.io.IOException;
-import java.io.Writer;
 import java.util.Locale;
 
 /**
@@ -37,7 +32,7 @@ import java.util.Locale;
  * {{#titlecase}}{{classname}}{{/titlecase}}
  * </pre>
  */
-public class TitlecaseLambda implements Mustache.Lambda  {
+public class TitlecaseLambda extends MemoizingLambda {
     private String delimiter;
 
     /**
@@ -65,22 +60,22 @@ public class TitlecaseLambda implements Mustache.Lambda  {
     }
 
     @Override
-    public void execute(Template.Fragment fragment, Writer writer) throws IOException {
-        String text = fragment.execute();
+    protected String formatFragment(String text) {
         if (delimiter == null) {
-            writer.write(titleCase(text));
-            return;
+            return titleCase(text);
         }
 
         // Split accepts regex. \Q and \E wrap the delimiter to create a literal regex,
         // so things like "." and "|" aren't treated as their regex equivalents.
         String[] parts = text.split("\\Q" + delimiter + "\\E");
+        StringBuilder sb = new StringBuilder(text.length());
         for (int i = 0; i < parts.length; i++) {
             String part = parts[i];
-            writer.write(titleCase(part));
+            sb.append(titleCase(part));
             if (i != parts.length - 1) {
-                writer.write(delimiter);
+                sb.append(delimiter);
             }
         }
+        return sb.toString();
     }
 }
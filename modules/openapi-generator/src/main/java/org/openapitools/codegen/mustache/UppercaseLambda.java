@@ -17,11 +17,6 @@
 
 package org.openapitools.codegen.mustache;
 
-import com.samskivert.mustache.Mustache;
-import com.samskivert.mustache.Template;
-
-import java.io.IOException;
-import java.io.Writer;
 import java.util.Locale;
 
 /**
@@ -37,10 +32,9 @@ import java.util.Locale;
  * {{#uppercase}}{{summary}}{{/uppercase}}
  * </pre>
  */
-public class UppercaseLambda implements Mustache.Lambda {
+public class UppercaseLambda extends MemoizingLambda {
     @Override
-    public void execute(Template.Fragment fragment, Writer writer) throws IOException {
-        String text = fragment.execute();
-        writer.write(text.toUpperCase(Locale.ROOT));
+    protected String formatFragment(String text) {
+        return text.toUpperCase(Locale.ROOT);
     }
 }
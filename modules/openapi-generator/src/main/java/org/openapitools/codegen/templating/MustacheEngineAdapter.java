@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.openapitools.codegen.mustache.FieldAccessCollector;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders templates with jmustache, the engine used by the embedded templates. Each template is compiled once per
+ * adapter, instead of once per rendered file; partials are compiled when a template first includes them. Fields of the
+ * Codegen* classes are read through the direct accessors of {@link FieldAccessCollector}.
+ */
+public class MustacheEngineAdapter implements TemplatingEngineAdapter {
+    public static final String IDENTIFIER = "mustache";
+
+    private static final String[] EXTENSIONS = new String[]{"mustache"};
+
+    private final Map<String, Template> compiledTemplates = new HashMap<>();
+    private Mustache.Compiler compiler;
+
+    @Override
+    public String getIdentifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public String[] getFileExtensions() {
+        return EXTENSIONS.clone();
+    }
+
+    @Override
+    public String compileTemplate(TemplatingGenerator generator, Map<String, Object> bundle, String templateFile) throws IOException {
+        Template template = compiledTemplates.get(templateFile);
+        if (template == null) {
+            template = getCompiler(generator).compile(generator.getFullTemplateContents(templateFile));
+            compiledTemplates.put(templateFile, template);
+        }
+        return template.execute(bundle);
+    }
+
+    @Override
+    public void clearCache() {
+        compiledTemplates.clear();
+        compiler = null;
+    }
+
+    private Mustache.Compiler getCompiler(final TemplatingGenerator generator) {
+        if (compiler == null) {
+            compiler = generator.getConfig()
+                    .processCompiler(Mustache.compiler().withCollector(new FieldAccessCollector()))
+                    .withLoader(name -> new StringReader(
+                            generator.getFullTemplateContents(generator.getFullTemplatePath(name + ".mustache"))))
+                    .defaultValue("");
+        }
+        return compiler;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Renders the templates of a generator run. Engines are looked up by identifier with {@link TemplatingEngineLoader},
+ * so that other template languages, or engines which compile templates ahead of time, can be plugged in without
+ * changing the generators.
+ * <p>
+ * Each generator instance uses its own adapter, so an adapter may keep compiled templates for the duration of a run.
+ */
+public interface TemplatingEngineAdapter {
+
+    /**
+     * @return The name the engine is selected by, e.g. <code>mustache</code>.
+     */
+    String getIdentifier();
+
+    /**
+     * @return The extensions (without dot) of the template files rendered by this engine; other supporting files are
+     * copied as they are.
+     */
+    String[] getFileExtensions();
+
+    /**
+     * Renders a template.
+     *
+     * @param generator    Gives access to the configuration and to the template files of the run.
+     * @param bundle       The data of the template.
+     * @param templateFile The full path of the template, as returned by {@link TemplatingGenerator#getFullTemplatePath(String)}.
+     * @return The rendered text.
+     * @throws IOException If the template, or a partial it includes, cannot be read.
+     */
+    String compileTemplate(TemplatingGenerator generator, Map<String, Object> bundle, String templateFile) throws IOException;
+
+    /**
+     * Discards any templates compiled so far, e.g. because the template files have changed.
+     */
+    default void clearCache() {
+    }
+
+    /**
+     * @param templateFile The path of a template file.
+     * @return true if this engine renders the file, judging by its extension.
+     */
+    default boolean handles(String templateFile) {
+        for (String extension : getFileExtensions()) {
+            if (templateFile.endsWith("." + extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import java.util.ServiceLoader;
+
+public class TemplatingEngineLoader {
+    private TemplatingEngineLoader() {
+    }
+
+    /**
+     * Loads a templating engine with SPI first, then by class name from the classpath.
+     *
+     * @param name The identifier of the engine, or the fully qualified name of its class.
+     * @return A new instance of the engine.
+     */
+    public static TemplatingEngineAdapter byIdentifier(String name) {
+        ServiceLoader<TemplatingEngineAdapter> loader = ServiceLoader.load(TemplatingEngineAdapter.class);
+
+        StringBuilder availableEngines = new StringBuilder();
+
+        for (TemplatingEngineAdapter engine : loader) {
+            if (engine.getIdentifier().equals(name)) {
+                return engine;
+            }
+
+            availableEngines.append(engine.getIdentifier()).append("\n");
+        }
+
+        // else try to load directly
+        try {
+            return (TemplatingEngineAdapter) Class.forName(name).getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Can't load templating engine with name '" + name + "'\nAvailable:\n" + availableEngines, e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.CodegenConfig;
+
+/**
+ * The side of a generator run a {@link TemplatingEngineAdapter} talks to: it resolves template names the way the
+ * generator does (custom template directory first, then library templates, then embedded ones) and reads them.
+ */
+public interface TemplatingGenerator {
+
+    /**
+     * @return The configuration of the generator being run.
+     */
+    CodegenConfig getConfig();
+
+    /**
+     * Resolves a template, e.g. a partial included by another template.
+     *
+     * @param name The path of the template relative to the template directory, e.g. <code>pojo.mustache</code>.
+     * @return The full path of the template.
+     */
+    String getFullTemplatePath(String name);
+
+    /**
+     * @param fullPath The full path of a template, as returned by {@link #getFullTemplatePath(String)}.
+     * @return The contents of the template.
+     */
+    String getFullTemplateContents(String fullPath);
+}
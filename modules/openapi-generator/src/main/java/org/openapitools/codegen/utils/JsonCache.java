@@ -41,9 +41,10 @@ import com.fasterxml.jackson.databind.node.JsonNodeType;
  * within the tree (thus converting the tree to a <i>graph</i>), in which case the same object may be retrieved using
  * any of the corresponding paths. However, this shared object becomes multiple independent objects when serialised to
  * JSON and if subsequently loaded into a cache instance. Such graphs <b>must</b> be acyclic: storing a cyclic graph in
- * the tree will cause a stack overflow when the cache is saved. Instances are not guaranteed threadsafe and require
- * external synchronisation if mutator methods may be called concurrently from multiple threads. Sparse arrays are not
- * supported - all array elements have a value, even if it is null.
+ * the tree will cause a stack overflow when the cache is saved. Instances are threadsafe: queries may run concurrently,
+ * whereas mutators, loads and unloads are serialised. Compound operations spanning several calls still require external
+ * synchronisation if they must appear atomic. Sparse arrays are not supported - all array elements have a value, even
+ * if it is null.
  * <p>
  * <em>N.B. some <code>getXxx()</code> methods can return mutable objects, mutations to which will be unobserved by the
  * cache instance, thus compromising the reliability of the <code>flush*()</code> methods. Callers relying on these
@@ -198,7 +199,7 @@ public interface JsonCache {
         /**
          * Loads the cache from the specified file. If the cache is already loaded, merges the incoming tree according
          * to the current {@link #mergePolicy(MergePolicy) merge policy}. The call has no effect if the file does not
-         * exist.
+         * exist. Any changes journalled by {@link #save(File)} alongside the file are applied to its content.
          *
          * @param file The JSON file to load.
          * @return The receiver, to allow chaining.
@@ -245,7 +246,14 @@ public interface JsonCache {
         Root mergePolicy(MergePolicy policy);
 
         /**
-         * Saves the object graph in JSON format to the specified file.
+         * Saves the object graph in JSON format to the specified file. The graph is written to a temporary file in the
+         * same directory which then replaces <code>file</code>, so the file is never left partially written.
+         * <p>
+         * If the cache was last loaded from or saved to the same file and neither the file nor the tree has been
+         * replaced since, the call writes nothing when the cache has not changed, and otherwise appends the nodes
+         * changed through the mutator methods to a journal file alongside it (named with a <code>.journal</code>
+         * suffix). The file is rewritten and the journal deleted once the journal grows beyond half the size of the
+         * file. Changes made directly to objects returned by the getters are not journalled.
          *
          * @param file The output file.
          * @return The receiver, to allow chaining.
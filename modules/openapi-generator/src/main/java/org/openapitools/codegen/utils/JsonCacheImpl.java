@@ -16,25 +16,37 @@
 
 package org.openapitools.codegen.utils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
@@ -44,6 +56,7 @@ import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ContainerNode;
@@ -53,7 +66,9 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.POJONode;
 
 /**
- * A cache implementation for loading, querying, mutating and saving a JSON object graph.
+ * A cache implementation for loading, querying, mutating and saving a JSON object graph. Access to the object graph is
+ * guarded by a read-write lock, so concurrent queries proceed in parallel while mutations, loads and unloads are
+ * exclusive.
  *
  * @author Adrian Price, TIBCO Software Inc.
  * @since 4.0.0
@@ -666,7 +681,7 @@ class JsonCacheImpl implements JsonCache.Root {
 
     static class FactoryImpl implements JsonCache.Factory {
         static final JsonCache.Factory instance = new FactoryImpl();
-        private final Map<String, JsonCacheImpl> instances = new HashMap<>();
+        private final ConcurrentMap<String, JsonCacheImpl> instances = new ConcurrentHashMap<>();
 
         @Override
         public Root create() {
@@ -675,14 +690,14 @@ class JsonCacheImpl implements JsonCache.Root {
 
         @Override
         public Root get(String key) {
-            synchronized (instances) {
-                JsonCacheImpl instance = instances.get(key);
-                if (instance == null) {
-                    instance = new JsonCacheImpl();
-                    instances.put(key, instance);
-                }
-                return instance;
+            JsonCacheImpl instance = instances.get(key);
+            if (instance == null) {
+                JsonCacheImpl newInstance = new JsonCacheImpl();
+                instance = instances.putIfAbsent(key, newInstance);
+                if (instance == null)
+                    instance = newInstance;
             }
+            return instance;
         }
     }
 
@@ -690,11 +705,24 @@ class JsonCacheImpl implements JsonCache.Root {
 
     private static final Pattern INTEGER = Pattern.compile("^\\d+$");
 
+    /**
+     * Suffix of the journal file, written next to a saved file, to which {@link #save(File)} appends the changed
+     * nodes instead of rewriting the whole file.
+     */
+    public static final String JOURNAL_SUFFIX = ".journal";
+
     protected static final Logger LOGGER = LoggerFactory.getLogger(JsonCacheImpl.class);
 
-    protected boolean isDirty;
+    protected volatile boolean isDirty;
+
+    protected volatile boolean isLoaded;
 
-    protected boolean isLoaded;
+    /**
+     * Guards {@link #root}: queries share the read lock; mutators, {@code load()} and {@code unload()} take the write
+     * lock. The <code>getXxx(ptr, defaultValue)</code> methods take the write lock so that the existence check and the
+     * insertion of the default value happen atomically.
+     */
+    protected final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     protected ObjectMapper mapper;
 
@@ -704,6 +732,36 @@ class JsonCacheImpl implements JsonCache.Root {
 
     private boolean shutdownHookRegistered;
 
+    /**
+     * The file which, together with its journal, holds the tree as it was when last loaded from or completely saved
+     * to it, or <code>null</code>. Its length and modification time at that point detect changes made by others.
+     */
+    protected File baseFile;
+
+    protected long baseFileLength;
+
+    protected long baseFileModified;
+
+    /**
+     * Pointers to the nodes changed by the mutator methods since the tree last matched {@link #baseFile} and its
+     * journal, in the order of the changes. Guarded by the write lock.
+     */
+    protected final Set<String> changes = new LinkedHashSet<>();
+
+    /**
+     * Whether the tree changed in a way the journal cannot express (a merge or the deletion of the root), so that the
+     * next save to {@link #baseFile} must rewrite it.
+     */
+    protected boolean rewriteRequired;
+
+    /**
+     * The maximum size of a journal, as a fraction of the size of its file: a {@link #save(File)} whose changes would
+     * grow the journal beyond it rewrites the file instead of appending to the journal.
+     */
+    protected double maxJournalRatio = 0.5;
+
+    private boolean replaying;
+
     protected JsonCacheImpl() {
         mapper = new ObjectMapper();
         mapper.enable(SerializationFeature.INDENT_OUTPUT);
@@ -741,30 +799,35 @@ class JsonCacheImpl implements JsonCache.Root {
     }
 
     protected JsonCache add(JsonPointer ptr, JsonNode node) {
-        // If ptr ends with an array index, this implies inserting at the specified index.
-        // If ptr does not end with an array index, this implies appending to the end of the array.
-        // In both cases the array in question and its ancestors must be created if they do not already exist.
-        String lastProperty = ptr.last().getMatchingProperty();
-        boolean isIndexed = isInteger(lastProperty);
-        ContainerNode<?> container = ensureContainerExists(ptr, !isIndexed);
-        switch (container.getNodeType()) {
-            case ARRAY:
-                ArrayNode array = (ArrayNode) container;
-                int index = isIndexed ? Integer.parseInt(lastProperty) : array.size();
-                if (index < array.size()) {
-                    array.insert(index, node);
-                } else {
-                    // Fill any gap between current size and index with nulls (Jackson doesn't support sparse arrays).
-                    for (int i = array.size(); i < index; i++)
-                        array.add(array.nullNode());
-                    array.add(node);
-                }
-                break;
-            default:
-                throw new IllegalArgumentException(ptr + " does not identify an array");
+        lock.writeLock().lock();
+        try {
+            // If ptr ends with an array index, this implies inserting at the specified index.
+            // If ptr does not end with an array index, this implies appending to the end of the array.
+            // In both cases the array in question and its ancestors must be created if they do not already exist.
+            String lastProperty = ptr.last().getMatchingProperty();
+            boolean isIndexed = isInteger(lastProperty);
+            ContainerNode<?> container = ensureContainerExists(ptr, !isIndexed);
+            switch (container.getNodeType()) {
+                case ARRAY:
+                    ArrayNode array = (ArrayNode) container;
+                    int index = isIndexed ? Integer.parseInt(lastProperty) : array.size();
+                    if (index < array.size()) {
+                        array.insert(index, node);
+                    } else {
+                        // Fill any gap between current size and index with nulls (Jackson doesn't support sparse arrays).
+                        for (int i = array.size(); i < index; i++)
+                            array.add(array.nullNode());
+                        array.add(node);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException(ptr + " does not identify an array");
+            }
+            setDirty(ptr);
+            return this;
+        } finally {
+            lock.writeLock().unlock();
         }
-        setDirty();
-        return this;
     }
 
     @Override
@@ -839,20 +902,30 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public void delete(JsonPointer ptr) {
-        JsonPointer head = ptr.head();
-        if (head == null) {
-            root = null;
-        } else if (root != null) {
-            JsonNode parent = root.at(head);
-            if (parent.isArray()) {
-                ((ArrayNode) parent).remove(Integer.parseInt(ptr.last().getMatchingProperty()));
-            } else if (parent.isObject()) {
-                ((ObjectNode) parent).remove(ptr.last().getMatchingProperty());
+        lock.writeLock().lock();
+        try {
+            JsonPointer head = ptr.head();
+            if (head == null) {
+                root = null;
+            } else if (root != null) {
+                JsonNode parent = root.at(head);
+                if (parent.isArray()) {
+                    ((ArrayNode) parent).remove(Integer.parseInt(ptr.last().getMatchingProperty()));
+                } else if (parent.isObject()) {
+                    ((ObjectNode) parent).remove(ptr.last().getMatchingProperty());
+                } else {
+                    throw new IllegalArgumentException(ptr + " does not identify a deletable node");
+                }
+            }
+            if (root == null) {
+                rewriteRequired = true;
+                setDirty();
             } else {
-                throw new IllegalArgumentException(ptr + " does not identify a deletable node");
+                setDirty(ptr);
             }
+        } finally {
+            lock.writeLock().unlock();
         }
-        setDirty();
     }
 
     @Override
@@ -939,7 +1012,12 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public boolean exists(JsonPointer ptr) {
-        return root != null && !root.at(ptr).isMissingNode();
+        lock.readLock().lock();
+        try {
+            return root != null && !root.at(ptr).isMissingNode();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
@@ -962,7 +1040,7 @@ class JsonCacheImpl implements JsonCache.Root {
     }
 
     @Override
-    public Root flushOnShutdown(final File file) {
+    public synchronized Root flushOnShutdown(final File file) {
         if (!shutdownHookRegistered) {
             Runtime.getRuntime().addShutdownHook(new Thread() {
                 @Override
@@ -980,7 +1058,7 @@ class JsonCacheImpl implements JsonCache.Root {
     }
 
     @Override
-    public Root flushOnShutdown(final OutputStream out) {
+    public synchronized Root flushOnShutdown(final OutputStream out) {
         if (!shutdownHookRegistered) {
             Runtime.getRuntime().addShutdownHook(new Thread() {
                 @Override
@@ -999,54 +1077,64 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public Object get(JsonPointer ptr) throws CacheException {
-        Object result;
-        if (root == null) {
-            result = null;
-        } else {
-            try {
-                JsonNode node = root.at(ptr);
-                switch (node.getNodeType()) {
-                    case ARRAY:
-                    case OBJECT:
-                        result = node;
-                        break;
-                    case BINARY:
-                        result = node.binaryValue();
-                        break;
-                    case BOOLEAN:
-                        result = node.booleanValue();
-                        break;
-                    case NUMBER:
-                        result = node.numberValue();
-                        break;
-                    case POJO:
-                        result = ((POJONode) node).getPojo();
-                        break;
-                    case STRING:
-                        result = node.textValue();
-                        break;
-                    default:
-                        result = null;
-                        break;
+        lock.readLock().lock();
+        try {
+            Object result;
+            if (root == null) {
+                result = null;
+            } else {
+                try {
+                    JsonNode node = root.at(ptr);
+                    switch (node.getNodeType()) {
+                        case ARRAY:
+                        case OBJECT:
+                            result = node;
+                            break;
+                        case BINARY:
+                            result = node.binaryValue();
+                            break;
+                        case BOOLEAN:
+                            result = node.booleanValue();
+                            break;
+                        case NUMBER:
+                            result = node.numberValue();
+                            break;
+                        case POJO:
+                            result = ((POJONode) node).getPojo();
+                            break;
+                        case STRING:
+                            result = node.textValue();
+                            break;
+                        default:
+                            result = null;
+                            break;
+                    }
+                } catch (IOException e) {
+                    throw new CacheException(e);
                 }
-            } catch (IOException e) {
-                throw new CacheException(e);
             }
+            return result;
+        } finally {
+            lock.readLock().unlock();
         }
-        return result;
     }
 
     @Override
     public Object get(JsonPointer ptr, Object defaultValue) throws CacheException {
-        Objects.requireNonNull(defaultValue, "defaultValue is required");
-        Object result;
-        if (exists(ptr)) {
-            result = get(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            Objects.requireNonNull(defaultValue, "defaultValue is required");
+            Object result;
+            if (exists(ptr)) {
+                result = get(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1061,20 +1149,30 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public BigDecimal getBigDecimal(JsonPointer ptr) {
-        return root == null ? null : root.at(ptr).decimalValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? null : root.at(ptr).decimalValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public BigDecimal getBigDecimal(JsonPointer ptr, BigDecimal defaultValue) throws CacheException {
-        Objects.requireNonNull(defaultValue, "defaultValue is required");
-        BigDecimal result;
-        if (exists(ptr)) {
-            result = getBigDecimal(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            Objects.requireNonNull(defaultValue, "defaultValue is required");
+            BigDecimal result;
+            if (exists(ptr)) {
+                result = getBigDecimal(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1090,20 +1188,30 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public BigInteger getBigInteger(JsonPointer ptr) {
-        return root == null ? null : root.at(ptr).bigIntegerValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? null : root.at(ptr).bigIntegerValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public BigInteger getBigInteger(JsonPointer ptr, BigInteger defaultValue) throws CacheException {
-        Objects.requireNonNull(defaultValue, "defaultValue is required");
-        BigInteger result;
-        if (exists(ptr)) {
-            result = getBigInteger(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            Objects.requireNonNull(defaultValue, "defaultValue is required");
+            BigInteger result;
+            if (exists(ptr)) {
+                result = getBigInteger(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1118,24 +1226,34 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public byte[] getBinary(JsonPointer ptr) throws CacheException {
+        lock.readLock().lock();
         try {
-            return root == null ? null : root.at(ptr).binaryValue();
-        } catch (IOException e) {
-            throw new CacheException(e);
+            try {
+                return root == null ? null : root.at(ptr).binaryValue();
+            } catch (IOException e) {
+                throw new CacheException(e);
+            }
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
     @Override
     public byte[] getBinary(JsonPointer ptr, byte[] defaultValue) throws CacheException {
-        Objects.requireNonNull(defaultValue, "defaultValue is required");
-        byte[] result;
-        if (exists(ptr)) {
-            result = getBinary(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            Objects.requireNonNull(defaultValue, "defaultValue is required");
+            byte[] result;
+            if (exists(ptr)) {
+                result = getBinary(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1150,19 +1268,29 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public boolean getBoolean(JsonPointer ptr) {
-        return root != null && root.at(ptr).booleanValue();
+        lock.readLock().lock();
+        try {
+            return root != null && root.at(ptr).booleanValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public boolean getBoolean(JsonPointer ptr, boolean defaultValue) throws CacheException {
-        boolean result;
-        if (exists(ptr)) {
-            result = getBoolean(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            boolean result;
+            if (exists(ptr)) {
+                result = getBoolean(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1177,20 +1305,30 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public double getDouble(JsonPointer ptr) {
-        return root == null ? 0.0D : root.at(ptr).doubleValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? 0.0D : root.at(ptr).doubleValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public double getDouble(JsonPointer ptr, double defaultValue) throws CacheException {
-        Objects.requireNonNull(defaultValue, "defaultValue is required");
-        double result;
-        if (exists(ptr)) {
-            result = getDouble(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            Objects.requireNonNull(defaultValue, "defaultValue is required");
+            double result;
+            if (exists(ptr)) {
+                result = getDouble(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1205,19 +1343,29 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public float getFloat(JsonPointer ptr) {
-        return root == null ? 0.0F : root.at(ptr).floatValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? 0.0F : root.at(ptr).floatValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public float getFloat(JsonPointer ptr, float defaultValue) throws CacheException {
-        float result;
-        if (exists(ptr)) {
-            result = getFloat(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            float result;
+            if (exists(ptr)) {
+                result = getFloat(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1232,19 +1380,29 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public int getInt(JsonPointer ptr) {
-        return root == null ? 0 : root.at(ptr).intValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? 0 : root.at(ptr).intValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public int getInt(JsonPointer ptr, int defaultValue) throws CacheException {
-        int result;
-        if (exists(ptr)) {
-            result = getInt(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            int result;
+            if (exists(ptr)) {
+                result = getInt(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1259,19 +1417,29 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public long getLong(JsonPointer ptr) {
-        return root == null ? 0L : root.at(ptr).longValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? 0L : root.at(ptr).longValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public long getLong(JsonPointer ptr, long defaultValue) throws CacheException {
-        long result;
-        if (exists(ptr)) {
-            result = getLong(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            long result;
+            if (exists(ptr)) {
+                result = getLong(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1296,7 +1464,12 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public JsonNodeType getNodeType(JsonPointer ptr) {
-        return root.at(ptr).getNodeType();
+        lock.readLock().lock();
+        try {
+            return root.at(ptr).getNodeType();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
@@ -1330,20 +1503,30 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public Number getNumber(JsonPointer ptr) {
-        return root == null ? null : root.at(ptr).numberValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? null : root.at(ptr).numberValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public Number getNumber(JsonPointer ptr, Number defaultValue) throws CacheException {
-        Objects.requireNonNull(defaultValue, "defaultValue is required");
-        Number result;
-        if (exists(ptr)) {
-            result = getNumber(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            Objects.requireNonNull(defaultValue, "defaultValue is required");
+            Number result;
+            if (exists(ptr)) {
+                result = getNumber(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1358,29 +1541,39 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public <T> T getObject(JsonPointer ptr, Class<T> type) throws CacheException {
-        T result;
-        if (root == null) {
-            result = null;
-        } else {
-            JsonNode node = root.at(ptr);
-            Object value = node.isPojo() && !JsonNode.class.isAssignableFrom(type) ? ((POJONode) node).getPojo() : node;
-            result = mapper.convertValue(value, type);
+        lock.readLock().lock();
+        try {
+            T result;
+            if (root == null) {
+                result = null;
+            } else {
+                JsonNode node = root.at(ptr);
+                Object value = node.isPojo() && !JsonNode.class.isAssignableFrom(type) ? ((POJONode) node).getPojo() : node;
+                result = mapper.convertValue(value, type);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
         }
-        return result;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getObject(JsonPointer ptr, T defaultValue) throws CacheException {
-        Objects.requireNonNull(defaultValue, "defaultValue is required");
-        T result;
-        if (exists(ptr)) {
-            result = (T) getObject(ptr, defaultValue.getClass());
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            Objects.requireNonNull(defaultValue, "defaultValue is required");
+            T result;
+            if (exists(ptr)) {
+                result = (T) getObject(ptr, defaultValue.getClass());
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1395,40 +1588,50 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public <T> List<T> getObjects(JsonPointer ptr, Class<T> type) throws CacheException {
-        List<T> result;
+        lock.readLock().lock();
+        try {
+            List<T> result;
 
-        if (root == null) {
-            result = null;
-        } else {
-            JsonNode node = root.at(ptr);
-            switch (node.getNodeType()) {
-                case ARRAY:
-                case OBJECT:
-                    result = new ArrayList<T>(node.size());
-                    Iterator<JsonNode> elements = node.elements();
-                    while (elements.hasNext())
-                        result.add(mapper.convertValue(elements.next(), type));
-                    break;
-                default:
-                    result = Collections.emptyList();
-                    break;
+            if (root == null) {
+                result = null;
+            } else {
+                JsonNode node = root.at(ptr);
+                switch (node.getNodeType()) {
+                    case ARRAY:
+                    case OBJECT:
+                        result = new ArrayList<T>(node.size());
+                        Iterator<JsonNode> elements = node.elements();
+                        while (elements.hasNext())
+                            result.add(mapper.convertValue(elements.next(), type));
+                        break;
+                    default:
+                        result = Collections.emptyList();
+                        break;
+                }
             }
-        }
 
-        return result;
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public <T> List<T> getObjects(JsonPointer ptr, Class<T> type, List<T> defaultValue) throws CacheException {
-        Objects.requireNonNull(defaultValue, "defaultValue is required");
-        List<T> result;
-        if (exists(ptr)) {
-            result = getObjects(ptr, type);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            Objects.requireNonNull(defaultValue, "defaultValue is required");
+            List<T> result;
+            if (exists(ptr)) {
+                result = getObjects(ptr, type);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1443,19 +1646,29 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public short getShort(JsonPointer ptr) {
-        return root == null ? (short) 0 : root.at(ptr).shortValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? (short) 0 : root.at(ptr).shortValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public short getShort(JsonPointer ptr, short defaultValue) {
-        short result;
-        if (exists(ptr)) {
-            result = getShort(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            short result;
+            if (exists(ptr)) {
+                result = getShort(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1470,20 +1683,30 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public String getString(JsonPointer ptr) {
-        return root == null ? null : root.at(ptr).textValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? null : root.at(ptr).textValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public String getString(JsonPointer ptr, String defaultValue) {
-        Objects.requireNonNull(defaultValue, "defaultValue is required");
-        String result;
-        if (exists(ptr)) {
-            result = getString(ptr);
-        } else {
-            set(ptr, defaultValue);
-            result = defaultValue;
+        lock.writeLock().lock();
+        try {
+            Objects.requireNonNull(defaultValue, "defaultValue is required");
+            String result;
+            if (exists(ptr)) {
+                result = getString(ptr);
+            } else {
+                set(ptr, defaultValue);
+                result = defaultValue;
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return result;
     }
 
     @Override
@@ -1529,36 +1752,68 @@ class JsonCacheImpl implements JsonCache.Root {
     @Override
     public Root load(File file) throws CacheException {
         Objects.requireNonNull(file, "file is required");
-        if (file.exists()) {
-            try (InputStream in = new FileInputStream(file)) {
-                load(in);
-            } catch (IOException e) {
-                throw new CacheException(e);
+        if (!file.exists())
+            return this;
+
+        // Stamp the file before reading it, so that a concurrent external rewrite is detected by the next save.
+        long length = file.length();
+        long modified = file.lastModified();
+        ContainerNode<?> tree;
+        List<JsonNode> journal;
+        try (InputStream in = new FileInputStream(file)) {
+            tree = isLoaded && mergePolicy == MergePolicy.NO_MERGE ? null : (ContainerNode<?>) mapper.readTree(in);
+            journal = tree == null ? Collections.emptyList() : readJournal(journalFor(file));
+        } catch (IOException e) {
+            throw new CacheException(e);
+        }
+        lock.writeLock().lock();
+        try {
+            if (tree != null)
+                tree = replay(tree, journal);
+            if (isLoaded) {
+                if (mergePolicy != MergePolicy.NO_MERGE && tree != null)
+                    merge(root, tree);
+            } else if (tree != null) {
+                root = tree;
+                isDirty = false;
+                isLoaded = true;
+                resetBase(file);
+                baseFileLength = length;
+                baseFileModified = modified;
             }
+            return this;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return this;
     }
 
     @Override
     public Root load(InputStream in) throws CacheException {
         Objects.requireNonNull(in, "in is required");
+        // Parse outside the lock: only publishing or merging the parsed tree needs exclusive access to the root.
+        ContainerNode<?> tree;
         try (InputStream is = in) {
+            tree = isLoaded && mergePolicy == MergePolicy.NO_MERGE ? null : (ContainerNode<?>) mapper.readTree(is);
+        } catch (IOException e) {
+            throw new CacheException(e);
+        }
+        lock.writeLock().lock();
+        try {
             if (isLoaded) {
-                if (mergePolicy != MergePolicy.NO_MERGE) {
-                    ContainerNode<?> tree = (ContainerNode<?>) mapper.readTree(in);
-
+                if (mergePolicy != MergePolicy.NO_MERGE && tree != null) {
                     // The cache is already loaded, so merge the incoming object tree into the existing root.
                     merge(root, tree);
                 }
-            } else {
-                root = (ContainerNode<?>) mapper.readTree(in);
+            } else if (tree != null) {
+                root = tree;
                 isDirty = false;
                 isLoaded = true;
+                resetBase(null);
             }
-        } catch (IOException e) {
-            throw new CacheException(e);
+            return this;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return this;
     }
 
     @Override
@@ -1582,6 +1837,7 @@ class JsonCacheImpl implements JsonCache.Root {
                             continue outer;
                     }
                     destArray.add(srcElem);
+                    rewriteRequired = true;
                 }
             } else if (dest.isObject()) {
                 ObjectNode destObject = (ObjectNode) dest;
@@ -1598,6 +1854,7 @@ class JsonCacheImpl implements JsonCache.Root {
                                 destObject.set(fieldName, srcChild);
                                 // Mark the cache as dirty as we've added items from another file.
                                 isDirty = true;
+                                rewriteRequired = true;
                                 LOGGER.info("Existing root property '" + fieldName
                                         + "' has been overwritten by incoming data");
                                 break;
@@ -1617,6 +1874,7 @@ class JsonCacheImpl implements JsonCache.Root {
                         LOGGER.info("New property '" + fieldName + "' has been added from incoming data");
                         // Mark the cache as dirty as we've added items from another file.
                         isDirty = true;
+                        rewriteRequired = true;
                     }
                 }
             }
@@ -1735,27 +1993,209 @@ class JsonCacheImpl implements JsonCache.Root {
     @Override
     public Root save(File file) throws CacheException {
         Objects.requireNonNull(file, "file is required");
-        file.getParentFile().mkdirs();
+        File journalFile = journalFor(file);
+        lock.writeLock().lock();
         try {
-            save(new FileOutputStream(file));
-        } catch (FileNotFoundException e) {
+            if (root == null || root.isMissingNode())
+                throw new CacheException("null or missing root node");
+
+            // If the file still holds what was last loaded from or saved to it, only the changes need writing.
+            if (!rewriteRequired && file.equals(baseFile) && file.length() == baseFileLength
+                    && file.lastModified() == baseFileModified) {
+                if (changes.isEmpty()) {
+                    isDirty = false;
+                    return this;
+                }
+                byte[] entries = journalEntries();
+                if (journalFile.length() + entries.length <= baseFileLength * maxJournalRatio) {
+                    appendJournal(journalFile, entries);
+                    changes.clear();
+                    isDirty = false;
+                    return this;
+                }
+            }
+
+            // Otherwise rewrite the file.
+            File dir = file.getAbsoluteFile().getParentFile();
+            dir.mkdirs();
+            // Write to a sibling temporary file then move it into place, so that a reader (or a crash part way through
+            // saving a large graph) never observes a truncated file.
+            File tempFile = null;
+            try {
+                tempFile = File.createTempFile(file.getName(), ".tmp", dir);
+                save(new BufferedOutputStream(new FileOutputStream(tempFile)));
+                // The new file already includes the journalled changes: delete the journal before replacing the file
+                // so that it can never be replayed over newer data.
+                if (journalFile.exists() && !journalFile.delete())
+                    throw new CacheException("Unable to delete journal " + journalFile);
+                try {
+                    Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+                tempFile = null;
+            } catch (IOException e) {
+                throw new CacheException(e);
+            } finally {
+                if (tempFile != null && tempFile.exists() && !tempFile.delete())
+                    LOGGER.warn("Unable to delete temporary file " + tempFile);
+            }
+            resetBase(file);
+            baseFileLength = file.length();
+            baseFileModified = file.lastModified();
+            return this;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Serializes the current values of the changed nodes as journal entries, one compact JSON object per line: a
+     * <code>path</code> holding the node's JSON pointer and a <code>value</code>, which is absent if the node has been
+     * deleted. Must be called with the write lock held.
+     *
+     * @return The journal entries.
+     * @throws CacheException if the entries could not be serialized.
+     */
+    protected byte[] journalEntries() throws CacheException {
+        ObjectWriter writer = mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            for (String path : changes) {
+                ObjectNode entry = JsonNodeFactory.instance.objectNode();
+                entry.put("path", path);
+                JsonNode node = root.at(path);
+                if (!node.isMissingNode())
+                    entry.set("value", node);
+                out.write(writer.writeValueAsBytes(entry));
+                out.write('\n');
+            }
+        } catch (IOException e) {
             throw new CacheException(e);
         }
-        return this;
+        return out.toByteArray();
     }
 
-    @Override
-    public Root save(OutputStream out) throws CacheException {
-        if (root == null || root.isMissingNode())
-            throw new CacheException("null or missing root node");
-        Objects.requireNonNull(out, "out is required");
-        try (OutputStream o = out) {
-            mapper.writeValue(o, root);
+    /**
+     * Appends entries produced by {@link #journalEntries()} to a journal. Must be called with the write lock held.
+     *
+     * @param journalFile The journal file.
+     * @param entries     The journal entries.
+     * @throws CacheException if the journal could not be written.
+     */
+    protected void appendJournal(File journalFile, byte[] entries) throws CacheException {
+        try (OutputStream out = new FileOutputStream(journalFile, true)) {
+            out.write(entries);
         } catch (IOException e) {
             throw new CacheException(e);
         }
-        isDirty = false;
-        return this;
+        baseFileLength = baseFile.length();
+        baseFileModified = baseFile.lastModified();
+    }
+
+    protected File journalFor(File file) {
+        return new File(file.getPath() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Reads the entries of a journal. A trailing line which cannot be parsed, as left by an interrupted append, is
+     * ignored.
+     *
+     * @param journalFile The journal file.
+     * @return The journal entries, in the order written.
+     * @throws IOException if the journal could not be read.
+     */
+    protected List<JsonNode> readJournal(File journalFile) throws IOException {
+        if (!journalFile.exists())
+            return Collections.emptyList();
+        List<JsonNode> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(journalFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty())
+                    continue;
+                try {
+                    entries.add(mapper.readTree(line));
+                } catch (IOException e) {
+                    if (reader.readLine() != null)
+                        throw e;
+                    LOGGER.warn("Ignoring incomplete last entry in journal " + journalFile);
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Replays journal entries onto a parsed tree. Must be called with the write lock held.
+     *
+     * @param tree    The tree parsed from a file.
+     * @param entries The entries read from its journal.
+     * @return The resulting tree, which is a different node if an entry replaced the root.
+     */
+    protected ContainerNode<?> replay(ContainerNode<?> tree, List<JsonNode> entries) {
+        if (entries.isEmpty())
+            return tree;
+        // The mutator methods operate on the root, so temporarily substitute the tree for it.
+        ContainerNode<?> savedRoot = root;
+        boolean savedDirty = isDirty;
+        boolean savedLoaded = isLoaded;
+        root = tree;
+        replaying = true;
+        try {
+            for (JsonNode entry : entries) {
+                JsonPointer ptr = JsonPointer.compile(entry.path("path").asText());
+                JsonNode value = entry.get("value");
+                if (ptr.matches()) {
+                    if (value instanceof ContainerNode)
+                        root = (ContainerNode<?>) value;
+                } else if (value != null) {
+                    set(ptr, value);
+                } else if (!root.at(ptr).isMissingNode()) {
+                    delete(ptr);
+                }
+            }
+            return root;
+        } finally {
+            root = savedRoot;
+            isDirty = savedDirty;
+            isLoaded = savedLoaded;
+            replaying = false;
+        }
+    }
+
+    /**
+     * Sets the file which the tree matches, discarding the recorded changes. Must be called with the write lock held.
+     *
+     * @param file The file, or <code>null</code> if the tree does not match any file.
+     */
+    protected void resetBase(File file) {
+        baseFile = file;
+        baseFileLength = 0;
+        baseFileModified = 0;
+        changes.clear();
+        rewriteRequired = false;
+    }
+
+    @Override
+    public Root save(OutputStream out) throws CacheException {
+        lock.readLock().lock();
+        try {
+            if (root == null || root.isMissingNode())
+                throw new CacheException("null or missing root node");
+            Objects.requireNonNull(out, "out is required");
+            try (OutputStream o = out) {
+                mapper.writeValue(o, root);
+            } catch (IOException e) {
+                throw new CacheException(e);
+            }
+            isDirty = false;
+            return this;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
@@ -1790,36 +2230,41 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public JsonCache set(JsonPointer ptr, List<?> values) throws CacheException {
-        // Note: if the node identified by ptr is not an array, we must create one before populating it.
-        ArrayNode array;
-        ContainerNode<?> container = ensureContainerExists(ptr);
-        JsonNode target = container.at(ptr.last());
-        if (target.isArray()) {
-            array = (ArrayNode) target;
-        } else {
-            String property = ptr.last().getMatchingProperty();
-            array = container.arrayNode();
-            switch (container.getNodeType()) {
-                case ARRAY:
-                    int index = Integer.parseInt(property);
-                    ((ArrayNode) container).set(index, array);
-                    break;
-                case OBJECT:
-                    ((ObjectNode) container).set(property, array);
-                    break;
-                default:
-                    throw new CacheException(ptr + " does not identify an array");
+        lock.writeLock().lock();
+        try {
+            // Note: if the node identified by ptr is not an array, we must create one before populating it.
+            ArrayNode array;
+            ContainerNode<?> container = ensureContainerExists(ptr);
+            JsonNode target = container.at(ptr.last());
+            if (target.isArray()) {
+                array = (ArrayNode) target;
+            } else {
+                String property = ptr.last().getMatchingProperty();
+                array = container.arrayNode();
+                switch (container.getNodeType()) {
+                    case ARRAY:
+                        int index = Integer.parseInt(property);
+                        ((ArrayNode) container).set(index, array);
+                        break;
+                    case OBJECT:
+                        ((ObjectNode) container).set(property, array);
+                        break;
+                    default:
+                        throw new CacheException(ptr + " does not identify an array");
+                }
             }
-        }
 
-        // Now that the target array exists, we can populate it.
-        array.removeAll();
-        for (Object value : values) {
-            JsonNode node = nodeFor(value);
-            array.add(node);
+            // Now that the target array exists, we can populate it.
+            array.removeAll();
+            for (Object value : values) {
+                JsonNode node = nodeFor(value);
+                array.add(node);
+            }
+            setDirty(ptr);
+            return this;
+        } finally {
+            lock.writeLock().unlock();
         }
-        setDirty();
-        return this;
     }
 
     @Override
@@ -1829,30 +2274,35 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public JsonCache set(JsonPointer ptr, Object value) {
-        String property = ptr.last().getMatchingProperty();
-        ContainerNode<?> container = ensureContainerExists(ptr);
-        JsonNode node = nodeFor(value);
-        switch (container.getNodeType()) {
-            case ARRAY:
-                ArrayNode array = (ArrayNode) container;
-                int index = Integer.parseInt(property);
-                if (index < array.size()) {
-                    array.set(index, node);
-                } else {
-                    // Fill any gap between current size and index with nulls (Jackson doesn't support sparse arrays).
-                    for (int i = array.size(); i < index; i++)
-                        array.add(array.nullNode());
-                    array.add(node);
-                }
-                break;
-            case OBJECT:
-                ((ObjectNode) container).set(property, node);
-                break;
-            default:
-                throw new IllegalArgumentException(ptr + " does not identify a settable container");
+        lock.writeLock().lock();
+        try {
+            String property = ptr.last().getMatchingProperty();
+            ContainerNode<?> container = ensureContainerExists(ptr);
+            JsonNode node = nodeFor(value);
+            switch (container.getNodeType()) {
+                case ARRAY:
+                    ArrayNode array = (ArrayNode) container;
+                    int index = Integer.parseInt(property);
+                    if (index < array.size()) {
+                        array.set(index, node);
+                    } else {
+                        // Fill any gap between current size and index with nulls (Jackson doesn't support sparse arrays).
+                        for (int i = array.size(); i < index; i++)
+                            array.add(array.nullNode());
+                        array.add(node);
+                    }
+                    break;
+                case OBJECT:
+                    ((ObjectNode) container).set(property, node);
+                    break;
+                default:
+                    throw new IllegalArgumentException(ptr + " does not identify a settable container");
+            }
+            setDirty(ptr);
+            return this;
+        } finally {
+            lock.writeLock().unlock();
         }
-        setDirty();
-        return this;
     }
 
     @Override
@@ -1925,9 +2375,35 @@ class JsonCacheImpl implements JsonCache.Root {
         isLoaded = true;
     }
 
+    /**
+     * Marks the cache dirty and records the change of a node for the journal. Must be called with the write lock held.
+     *
+     * @param ptr Pointer to the node which was set, added or deleted.
+     */
+    protected void setDirty(JsonPointer ptr) {
+        if (!replaying) {
+            // Array elements shift on insertion and removal, so the outermost enclosing array is journalled in its
+            // entirety rather than a pointer into it which might identify a different element by the time of saving.
+            JsonPointer changed = ptr;
+            if (root != null) {
+                for (JsonPointer head = ptr.head(); head != null; head = head.head()) {
+                    if (root.at(head).isArray())
+                        changed = head;
+                }
+            }
+            changes.add(changed.toString());
+        }
+        setDirty();
+    }
+
     @Override
     public int size(JsonPointer ptr) {
-        return root == null ? 0 : root.at(ptr).size();
+        lock.readLock().lock();
+        try {
+            return root == null ? 0 : root.at(ptr).size();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
@@ -1937,14 +2413,25 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public String toString() {
-        return "JsonCacheImpl [root=" + root + ']';
+        lock.readLock().lock();
+        try {
+            return "JsonCacheImpl [root=" + root + ']';
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public Root unload() {
-        isLoaded = false;
-        isDirty = false;
-        root = null;
-        return this;
+        lock.writeLock().lock();
+        try {
+            isLoaded = false;
+            isDirty = false;
+            root = null;
+            resetBase(null);
+            return this;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 }
@@ -29,6 +29,7 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.ModelGraph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,14 +43,20 @@ import java.util.stream.Collectors;
 
 public class ModelUtils {
     private static final Logger LOGGER = LoggerFactory.getLogger(ModelUtils.class);
-    private static boolean generateAliasAsModel = false;
+    // per thread (like GeneratorProperties), so that generator runs on different threads do not interfere
+    private static final ThreadLocal<Boolean> generateAliasAsModel = new InheritableThreadLocal<Boolean>() {
+        @Override
+        protected Boolean initialValue() {
+            return Boolean.FALSE;
+        }
+    };
 
     public static void setGenerateAliasAsModel(boolean value) {
-        generateAliasAsModel = value;
+        generateAliasAsModel.set(value);
     }
 
     public static boolean isGenerateAliasAsModel() {
-        return generateAliasAsModel;
+        return generateAliasAsModel.get();
     }
 
 
@@ -61,6 +68,9 @@ public class ModelUtils {
      * @return model
      */
     public static CodegenModel getModelByName(final String name, final Map<String, Object> models) {
+        if (models instanceof ModelGraph) {
+            return ((ModelGraph) models).getModel(name);
+        }
         final Object data = models.get(name);
         if (data instanceof Map) {
             final Map<?, ?> dataMap = (Map<?, ?>) data;
@@ -784,7 +794,7 @@ public class ModelUtils {
                 // top-level enum class
                 return schema;
             } else if (isArraySchema(ref)) {
-                if (generateAliasAsModel) {
+                if (isGenerateAliasAsModel()) {
                     return schema; // generate a model extending array
                 } else {
                     return unaliasSchema(openAPI, allSchemas.get(ModelUtils.getSimpleRef(schema.get$ref())));
@@ -795,7 +805,7 @@ public class ModelUtils {
                 if (ref.getProperties() != null && !ref.getProperties().isEmpty()) // has at least one property
                     return schema; // treat it as model
                 else {
-                    if (generateAliasAsModel) {
+                    if (isGenerateAliasAsModel()) {
                         return schema; // generate a model extending map
                     } else {
                         // treat it as a typical map
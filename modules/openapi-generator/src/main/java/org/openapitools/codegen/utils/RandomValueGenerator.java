@@ -0,0 +1,185 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import com.mifmif.common.regex.Generex;
+
+/**
+ * Produces random sample values honouring the constraints of a schema (minimum, maximum, exclusivity and pattern), for
+ * use by generators which emit sample data or fully functional operation bodies. All values are drawn from a single
+ * {@link Random}, so a generator created with a seed yields the same sequence of values on every run given the same
+ * sequence of calls. Compiled regular expression generators are cached per pattern for the lifetime of the instance.
+ * Instances are not threadsafe.
+ */
+public class RandomValueGenerator {
+    private final Random random;
+
+    private final Map<String, Generex> regexGenerators = new HashMap<>();
+
+    /**
+     * Creates a generator which produces a different sequence of values on each run.
+     */
+    public RandomValueGenerator() {
+        this(new Random());
+    }
+
+    /**
+     * Creates a generator which produces a reproducible sequence of values.
+     *
+     * @param seed The random number generator seed.
+     */
+    public RandomValueGenerator(long seed) {
+        this(new Random(seed));
+    }
+
+    protected RandomValueGenerator(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * @return A uniformly distributed value in the range <code>[0.0, 1.0)</code>.
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    public boolean nextBoolean() {
+        return random.nextDouble() > 0.5;
+    }
+
+    /**
+     * @param size The number of elements from which to choose.
+     * @return A random index in the range <code>[0, size)</code>.
+     */
+    public int nextIndex(int size) {
+        return (int) (size * random.nextDouble());
+    }
+
+    public BigDecimal nextBigDecimal(String minimum, String maximum, boolean exclusiveMinimum,
+                                     boolean exclusiveMaximum) {
+        // NOTE: use BigDecimal to hold double values, to avoid numeric overflow.
+        BigDecimal min = new BigDecimal(minimum == null ? Long.MIN_VALUE : Double.parseDouble(minimum));
+        BigDecimal max = new BigDecimal(maximum == null ? Long.MAX_VALUE : Double.parseDouble(maximum));
+        BigDecimal exclusiveMin = new BigDecimal(exclusiveMinimum ? 1 : 0);
+        BigDecimal inclusiveMax = new BigDecimal(exclusiveMaximum ? 0 : 1);
+        return min.add(exclusiveMin).add(max.add(inclusiveMax).subtract(min).subtract(exclusiveMin)
+                .multiply(new BigDecimal(String.valueOf(random.nextDouble()))));
+    }
+
+    public byte nextByte(String minimum, String maximum, boolean exclusiveMinimum, boolean exclusiveMaximum) {
+        // NOTE: use short to hold byte values, to avoid numeric overflow.
+        short min = minimum == null ? Byte.MIN_VALUE : Byte.parseByte(minimum);
+        short max = maximum == null ? Byte.MAX_VALUE : Byte.parseByte(maximum);
+        short exclusiveMin = (short) (exclusiveMinimum ? 1 : 0);
+        short inclusiveMax = (short) (exclusiveMaximum ? 0 : 1);
+        return (byte) (min + exclusiveMin + ((max + inclusiveMax - min - exclusiveMin) * random.nextDouble()));
+    }
+
+    public byte[] nextBytes(int count, String minimum, String maximum, boolean exclusiveMinimum,
+                            boolean exclusiveMaximum) {
+        byte[] bytes = new byte[count];
+        for (int i = 0; i < count; i++)
+            bytes[i] = nextByte(minimum, maximum, exclusiveMinimum, exclusiveMaximum);
+        return bytes;
+    }
+
+    public char nextChar(String minimum, String maximum, boolean exclusiveMinimum, boolean exclusiveMaximum) {
+        // NOTE: the default range is kept to lower case letters, which need no escaping in any generated literal.
+        // NOTE: char is unsigned, so there's no overflow issue in computing (max - min).
+        char min = minimum == null ? 'a' : minimum.charAt(0);
+        char max = maximum == null ? 'z' : maximum.charAt(0);
+        char exclusiveMin = (char) (exclusiveMinimum ? 1 : 0);
+        char inclusiveMax = (char) (exclusiveMaximum ? 0 : 1);
+        return (char) (min + exclusiveMin + ((max + inclusiveMax - min - exclusiveMin) * random.nextDouble()));
+    }
+
+    /**
+     * @param minDate          The lower bound, in milliseconds since the epoch.
+     * @param maxDate          The upper bound, in milliseconds since the epoch.
+     * @param exclusiveMinimum Whether <code>minDate</code> is excluded from the range.
+     * @param exclusiveMaximum Whether <code>maxDate</code> is excluded from the range.
+     * @return A random date, in milliseconds since the epoch.
+     */
+    public long nextDate(long minDate, long maxDate, boolean exclusiveMinimum, boolean exclusiveMaximum) {
+        // NOTE: use BigDecimal to hold long values, to avoid numeric overflow.
+        BigDecimal minLong = new BigDecimal(minDate);
+        BigDecimal maxLong = new BigDecimal(maxDate);
+        BigDecimal exclusiveMinLong = new BigDecimal(exclusiveMinimum ? 1 : 0);
+        BigDecimal inclusiveMaxLong = new BigDecimal(exclusiveMaximum ? 0 : 1);
+        return minLong.add(exclusiveMinLong).add(maxLong.add(inclusiveMaxLong).subtract(minLong)
+                .subtract(exclusiveMinLong).multiply(new BigDecimal(random.nextDouble()))).longValue();
+    }
+
+    public float nextFloat(String minimum, String maximum, boolean exclusiveMinimum, boolean exclusiveMaximum) {
+        // NOTE: use double to hold float values, to avoid numeric overflow.
+        double min = minimum == null ? -Float.MAX_VALUE : Float.parseFloat(minimum);
+        double max = maximum == null ? Float.MAX_VALUE : Float.parseFloat(maximum);
+        double exclusiveMin = exclusiveMinimum ? 1 : 0;
+        double inclusiveMax = exclusiveMaximum ? 0 : 1;
+        return (float) (min + exclusiveMin + ((max + inclusiveMax - min - exclusiveMin) * random.nextDouble()));
+    }
+
+    public int nextInt(String minimum, String maximum, boolean exclusiveMinimum, boolean exclusiveMaximum) {
+        // NOTE: use long to hold int values, to avoid numeric overflow.
+        long min = minimum == null ? Integer.MIN_VALUE : Integer.parseInt(minimum);
+        long max = maximum == null ? Integer.MAX_VALUE : Integer.parseInt(maximum);
+        long exclusiveMin = exclusiveMinimum ? 1 : 0;
+        long inclusiveMax = exclusiveMaximum ? 0 : 1;
+        return (int) (min + exclusiveMin + ((max + inclusiveMax - min - exclusiveMin) * random.nextDouble()));
+    }
+
+    public long nextLong(String minimum, String maximum, boolean exclusiveMinimum, boolean exclusiveMaximum) {
+        // NOTE: use BigDecimal to hold long values, to avoid numeric overflow.
+        BigDecimal min = new BigDecimal(minimum == null ? Long.MIN_VALUE : Long.parseLong(minimum));
+        BigDecimal max = new BigDecimal(maximum == null ? Long.MAX_VALUE : Long.parseLong(maximum));
+        BigDecimal exclusiveMin = new BigDecimal(exclusiveMinimum ? 1 : 0);
+        BigDecimal inclusiveMax = new BigDecimal(exclusiveMaximum ? 0 : 1);
+        return min.add(exclusiveMin).add(
+                max.add(inclusiveMax).subtract(min).subtract(exclusiveMin).multiply(new BigDecimal(random.nextDouble())))
+                .longValue();
+    }
+
+    public short nextShort(String minimum, String maximum, boolean exclusiveMinimum, boolean exclusiveMaximum) {
+        // NOTE: use int to hold short values, to avoid numeric overflow.
+        int min = minimum == null ? Short.MIN_VALUE : Short.parseShort(minimum);
+        int max = maximum == null ? Short.MAX_VALUE : Short.parseShort(maximum);
+        int exclusiveMin = exclusiveMinimum ? 1 : 0;
+        int inclusiveMax = exclusiveMaximum ? 0 : 1;
+        return (short) (min + exclusiveMin + ((max + inclusiveMax - min - exclusiveMin) * random.nextDouble()));
+    }
+
+    /**
+     * Generates a random string matching a regular expression. The pattern is compiled on first use and the compiled
+     * form reused for subsequent calls with the same pattern.
+     *
+     * @param pattern The regular expression which the result must match.
+     * @return A random string matching <code>pattern</code>.
+     */
+    public String nextString(String pattern) {
+        Generex generex = regexGenerators.get(pattern);
+        if (generex == null) {
+            generex = new Generex(pattern, random);
+            regexGenerators.put(pattern, generex);
+        }
+        return generex.random();
+    }
+}
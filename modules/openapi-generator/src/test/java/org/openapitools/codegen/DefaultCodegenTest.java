@@ -23,6 +23,7 @@ import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.*;
 import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.parameters.PathParameter;
 import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
@@ -469,6 +470,94 @@ public class DefaultCodegenTest {
         Assert.assertEquals(childModel.parentSchema, "Person");
     }
 
+    @Test
+    public void testModelPropertiesAreNotShared() {
+        final OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/allOf.yaml");
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setOpenAPI(openAPI);
+
+        CodegenModel personModel = codegen.fromModel("Person", openAPI.getComponents().getSchemas().get("Person"));
+        CodegenModel childModel = codegen.fromModel("Child", openAPI.getComponents().getSchemas().get("Child"));
+        CodegenProperty personLastName = findProperty(personModel.vars, "lastName");
+        CodegenProperty childLastName = findProperty(childModel.vars, "lastName");
+        Assert.assertNotSame(childLastName, personLastName);
+        Assert.assertEquals(childLastName.dataType, personLastName.dataType);
+
+        childLastName.dataType = "Changed";
+        Assert.assertNotEquals(personLastName.dataType, "Changed");
+        CodegenModel personModelAgain = codegen.fromModel("Person", openAPI.getComponents().getSchemas().get("Person"));
+        Assert.assertEquals(findProperty(personModelAgain.vars, "lastName").dataType, personLastName.dataType);
+
+        CodegenModel adultModel = codegen.fromModel("Adult", openAPI.getComponents().getSchemas().get("Adult"));
+        CodegenModel adultModelAgain = codegen.fromModel("Adult", openAPI.getComponents().getSchemas().get("Adult"));
+        CodegenProperty children = findProperty(adultModel.vars, "children");
+        CodegenProperty childrenAgain = findProperty(adultModelAgain.vars, "children");
+        Assert.assertNotSame(childrenAgain.items, children.items);
+        Assert.assertEquals(childrenAgain.items.dataType, children.items.dataType);
+        Assert.assertSame(children.mostInnerItems, children.items);
+        Assert.assertSame(childrenAgain.mostInnerItems, childrenAgain.items);
+    }
+
+    @Test
+    public void testReferencedParameterIsSerializedOnce() {
+        final OpenAPI openAPI = TestUtils.createOpenAPI();
+        openAPI.getComponents().addParameters("limit", new QueryParameter().name("limit").schema(new IntegerSchema()));
+        final DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setOpenAPI(openAPI);
+
+        CodegenOperation first = codegen.fromOperation("/first", "get", new Operation()
+                .addParametersItem(new QueryParameter().$ref("#/components/parameters/limit"))
+                .addParametersItem(new QueryParameter().name("offset").schema(new IntegerSchema())), null);
+        CodegenOperation second = codegen.fromOperation("/second", "get", new Operation()
+                .addParametersItem(new QueryParameter().$ref("#/components/parameters/limit")), null);
+
+        CodegenParameter firstLimit = first.allParams.get(0);
+        CodegenParameter secondLimit = second.allParams.get(0);
+        Assert.assertNotSame(firstLimit, secondLimit);
+        Assert.assertSame(firstLimit.jsonSchema, secondLimit.jsonSchema);
+        Assert.assertSame(first.queryParams.get(0).jsonSchema, firstLimit.jsonSchema);
+        Assert.assertNotEquals(first.allParams.get(1).jsonSchema, firstLimit.jsonSchema);
+
+        // each list still has its own entries, carrying their position in that list
+        Assert.assertTrue(firstLimit.hasMore);
+        Assert.assertFalse(secondLimit.hasMore);
+        Assert.assertFalse(second.queryParams.get(0).hasMore);
+    }
+
+    @Test
+    public void testPathTemplate() {
+        final OpenAPI openAPI = TestUtils.createOpenAPI();
+        final DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setOpenAPI(openAPI);
+
+        CodegenOperation op = codegen.fromOperation("/pet/{petId}/photos/{photo_id}.json", "get", new Operation()
+                .addParametersItem(new PathParameter().name("petId").schema(new IntegerSchema())), null);
+        CodegenPathTemplate template = op.pathTemplate;
+        Assert.assertTrue(template.hasVariables);
+        Assert.assertEquals(template.variableNames, Arrays.asList("petId", "photo_id"));
+        Assert.assertEquals(template.parts.size(), 5);
+        Assert.assertFalse(template.parts.get(0).isVariable);
+        Assert.assertEquals(template.parts.get(0).value, "/pet/");
+        Assert.assertTrue(template.parts.get(1).isVariable);
+        Assert.assertSame(template.parts.get(1).parameter, op.pathParams.get(0));
+        Assert.assertNull(template.parts.get(3).parameter);
+        Assert.assertEquals(template.parts.get(4).value, ".json");
+        Assert.assertEquals(template.render(part -> ":" + part.value), "/pet/:petId/photos/:photo_id.json");
+
+        CodegenPathTemplate literal = CodegenPathTemplate.parse("/odd/{}/{unclosed", null);
+        Assert.assertFalse(literal.hasVariables);
+        Assert.assertEquals(literal.render(part -> "x"), "/odd/{}/{unclosed");
+    }
+
+    private static CodegenProperty findProperty(List<CodegenProperty> vars, String baseName) {
+        for (CodegenProperty var : vars) {
+            if (baseName.equals(var.baseName)) {
+                return var;
+            }
+        }
+        throw new AssertionError("No property named " + baseName);
+    }
+
     @Test
     public void testCallbacks() {
         final OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/callbacks.yaml");
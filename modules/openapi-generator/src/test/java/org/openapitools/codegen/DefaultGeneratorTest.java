@@ -1,21 +1,35 @@
 package org.openapitools.codegen;
 
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import java.io.File;
 import java.io.IOException;
+import java.io.NotSerializableException;
+import java.nio.file.Files;
+import org.apache.commons.io.FileUtils;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.openapitools.codegen.languages.TypeScriptAngularClientCodegen;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -78,4 +92,264 @@ public class DefaultGeneratorTest {
         Assert.assertFalse(testPathTmp.exists());
         testPath.delete();
     }
+
+    @Test
+    public void testRenderSnapshot() throws IOException {
+        File output = Files.createTempDirectory("test").toFile();
+        File snapshotFile = new File(output, "java.snapshot");
+        try {
+            CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"))
+                    .addSystemProperty(CodegenConstants.WRITE_SNAPSHOT, snapshotFile.getAbsolutePath());
+            MockDefaultGenerator generator = new MockDefaultGenerator();
+            generator.opts(configurator.toClientOptInput()).generate();
+            Assert.assertTrue(snapshotFile.exists());
+
+            configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"))
+                    .addSystemProperty(CodegenConstants.RENDER_SNAPSHOT, snapshotFile.getAbsolutePath());
+            ClientOptInput input = configurator.toClientOptInput();
+            Assert.assertNull(input.getOpenAPI());
+            MockDefaultGenerator renderer = new MockDefaultGenerator();
+            renderer.opts(input).generate();
+
+            Assert.assertEquals(renderer.getFiles(), generator.getFiles());
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testSnapshotFailsOnUnserializableValue() throws IOException {
+        File output = Files.createTempDirectory("test").toFile();
+        File snapshotFile = new File(output, "java.snapshot");
+        try {
+            JavaClientCodegen config = new JavaClientCodegen();
+            GenerationSnapshot snapshot = new GenerationSnapshot(config);
+            snapshot.addModel("Pet", Collections.<String, Object>singletonMap("unserializable", new Object()));
+            try {
+                snapshot.write(snapshotFile, config);
+                Assert.fail("Expected the snapshot to fail");
+            } catch (NotSerializableException e) {
+                Assert.assertEquals(e.getMessage(), Object.class.getName());
+            }
+            Assert.assertFalse(snapshotFile.exists());
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testRerenderChangedTemplates() throws IOException {
+        File output = Files.createTempDirectory("test").toFile();
+        try {
+            CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+            MockDefaultGenerator generator = new MockDefaultGenerator();
+            generator.setTrackTemplates(true);
+            generator.opts(configurator.toClientOptInput()).generate();
+
+            // pojo.mustache is a partial of model.mustache
+            List<File> models = generator.rerender(Collections.singletonList("pojo.mustache"));
+            Assert.assertFalse(models.isEmpty());
+            for (File file : models) {
+                Assert.assertEquals(file.getParentFile().getName(), "model", file.getPath());
+            }
+
+            List<File> apis = generator.rerender(Collections.singletonList("libraries/okhttp-gson/api.mustache"));
+            Assert.assertFalse(apis.isEmpty());
+            for (File file : apis) {
+                Assert.assertTrue(file.getName().endsWith("Api.java"), file.getPath());
+            }
+
+            Assert.assertTrue(generator.rerender(Collections.singletonList("unused.mustache")).isEmpty());
+        } finally {
+            output.delete();
+        }
+    }
+
+    @Test
+    public void testApiListPositionsWithManyTags() throws IOException {
+        final int tagCount = 500;
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        openAPI.setPaths(new Paths());
+        for (int i = 0; i < tagCount; i++) {
+            openAPI.getPaths().addPathItem("/path" + i, new PathItem().get(new Operation().operationId("op" + i).addTagsItem("tag" + i)
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")))));
+        }
+
+        File output = Files.createTempDirectory("test").toFile();
+        try {
+            TypeScriptAngularClientCodegen codegen = new TypeScriptAngularClientCodegen();
+            codegen.setOutputDir(output.getAbsolutePath());
+            ClientOptInput opts = new ClientOptInput();
+            opts.setOpenAPI(openAPI);
+            opts.setConfig(codegen);
+            opts.setOpts(new ClientOpts());
+
+            MockDefaultGenerator generator = new MockDefaultGenerator();
+            generator.opts(opts).generate();
+
+            String apiModule = null;
+            for (Map.Entry<String, String> file : generator.getFiles().entrySet()) {
+                if (file.getKey().endsWith("/api.module.ts")) {
+                    apiModule = file.getValue();
+                }
+            }
+            Assert.assertNotNull(apiModule);
+            // every api but the last one is followed by a comma
+            Assert.assertEquals(apiModule.split("Service,\\n", -1).length - 1, tagCount - 1);
+            Assert.assertTrue(apiModule.contains("Service ]"), apiModule);
+        } finally {
+            output.delete();
+        }
+    }
+
+    @Test
+    public void testProcessedModelsSortedByModelName() throws IOException {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        openAPI.setPaths(new Paths());
+        for (String name : new String[]{"zebra", "mango_fruit", "Apple", "banana"}) {
+            openAPI.getComponents().addSchemas(name, new ObjectSchema().addProperties("id", new IntegerSchema()));
+        }
+
+        File output = Files.createTempDirectory("test").toFile();
+        try {
+            final List<String> schemaNames = new ArrayList<>();
+            final List<Object> classnames = new ArrayList<>();
+            TypeScriptAngularClientCodegen codegen = new TypeScriptAngularClientCodegen() {
+                @Override
+                public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
+                    for (Map.Entry<String, Object> entry : objs.entrySet()) {
+                        schemaNames.add(entry.getKey());
+                        classnames.add(((Map<String, Object>) entry.getValue()).get("classname"));
+                    }
+                    return super.postProcessAllModels(objs);
+                }
+            };
+            codegen.setOutputDir(output.getAbsolutePath());
+            ClientOptInput opts = new ClientOptInput();
+            opts.setOpenAPI(openAPI);
+            opts.setConfig(codegen);
+            opts.setOpts(new ClientOpts());
+
+            new MockDefaultGenerator().opts(opts).generate();
+
+            // ordered by model name, not by schema name
+            Assert.assertEquals(schemaNames, Arrays.asList("Apple", "banana", "mango_fruit", "zebra"));
+            Assert.assertEquals(classnames, Arrays.asList("Apple", "Banana", "MangoFruit", "Zebra"));
+        } finally {
+            output.delete();
+        }
+    }
+
+    @Test
+    public void testConcurrentRunsFromParsedSpec() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"))
+                    .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+            MockDefaultGenerator expected = new MockDefaultGenerator();
+            expected.opts(configurator.toClientOptInput()).generate();
+
+            byte[] spec = Json.mapper().writeValueAsBytes(configurator.readInputSpec());
+            List<Future<MockDefaultGenerator>> runs = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                runs.add(executor.submit(() -> {
+                    MockDefaultGenerator generator = new MockDefaultGenerator();
+                    generator.opts(configurator.toClientOptInput(Json.mapper().readValue(spec, OpenAPI.class))).generate();
+                    return generator;
+                }));
+            }
+            for (Future<MockDefaultGenerator> run : runs) {
+                Assert.assertEquals(run.get().getFiles(), expected.getFiles());
+            }
+        } finally {
+            executor.shutdownNow();
+            output.delete();
+        }
+    }
+
+    @Test
+    public void testLowMemoryMode() throws IOException {
+        File output = Files.createTempDirectory("test").toFile();
+        try {
+            CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"))
+                    .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+            MockDefaultGenerator expected = new MockDefaultGenerator();
+            expected.opts(configurator.toClientOptInput()).generate();
+
+            configurator.addSystemProperty(CodegenConstants.LOW_MEMORY, "true");
+            MockDefaultGenerator lowMemory = new MockDefaultGenerator();
+            lowMemory.opts(configurator.toClientOptInput()).generate();
+
+            Assert.assertEquals(lowMemory.getFiles(), expected.getFiles());
+        } finally {
+            output.delete();
+        }
+    }
+
+    @Test
+    public void testLowMemoryModeWithUnmodifiableModels() throws IOException {
+        File output = Files.createTempDirectory("test").toFile();
+        try {
+            CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"))
+                    .addSystemProperty(CodegenConstants.LOW_MEMORY, "true");
+            ClientOptInput input = configurator.toClientOptInput();
+            JavaClientCodegen config = new JavaClientCodegen() {
+                @Override
+                public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
+                    return Collections.unmodifiableMap(super.postProcessAllModels(objs));
+                }
+            };
+            config.setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+            input.setConfig(config);
+            MockDefaultGenerator generator = new MockDefaultGenerator();
+            generator.opts(input).generate();
+
+            Assert.assertTrue(generator.getFiles().containsKey(new File(output,
+                    "src/main/java/org/openapitools/client/model/Pet.java").getAbsolutePath().replace("\\", "/")));
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testLowMemoryModeFailsWhenPropertiesAreStillNeeded() throws IOException {
+        File output = Files.createTempDirectory("test").toFile();
+        try {
+            // haskell-http-client renders all models into a supporting file
+            CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("haskell-http-client")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"))
+                    .addSystemProperty(CodegenConstants.LOW_MEMORY, "true");
+            new MockDefaultGenerator().opts(configurator.toClientOptInput()).generate();
+            Assert.fail("expected the released properties to be reported");
+        } catch (RuntimeException e) {
+            Throwable cause = e;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            Assert.assertTrue(cause.getMessage().contains(CodegenConstants.LOW_MEMORY), cause.getMessage());
+        } finally {
+            output.delete();
+        }
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.utils.ModelUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class ModelGraphTest {
+
+    private static CodegenModel model(String name, String parent, String... interfaces) {
+        CodegenModel model = new CodegenModel();
+        model.name = name;
+        model.classname = name;
+        model.parent = parent;
+        model.interfaces = interfaces.length > 0 ? Arrays.asList(interfaces) : null;
+        return model;
+    }
+
+    private static Map<String, Object> bundle(CodegenModel model) {
+        Map<String, Object> mo = new HashMap<>();
+        mo.put("model", model);
+        mo.put("importPath", "models." + model.classname);
+        Map<String, Object> bundle = new HashMap<>();
+        bundle.put("models", Collections.singletonList(mo));
+        return bundle;
+    }
+
+    private static Map<String, Object> bundles(CodegenModel... models) {
+        Map<String, Object> bundles = new LinkedHashMap<>();
+        for (CodegenModel model : models) {
+            // schema names are lower case here, model names capitalized
+            bundles.put(model.name.toLowerCase(Locale.ROOT), bundle(model));
+        }
+        return bundles;
+    }
+
+    private static String toModelName(String schemaName) {
+        return Character.toUpperCase(schemaName.charAt(0)) + schemaName.substring(1);
+    }
+
+    @Test
+    public void testIndexes() {
+        CodegenModel pet = model("Pet", null);
+        CodegenModel cat = model("Cat", "Pet", "Named");
+        CodegenModel dog = model("Dog", "Pet");
+        CodegenModel named = model("Named", null);
+        CodegenModel status = model("Status", null);
+        status.isEnum = true;
+        CodegenModel tags = model("Tags", null);
+        tags.isAlias = true;
+
+        ModelGraph graph = new ModelGraph(bundles(cat, pet, dog, named, status, tags), ModelGraphTest::toModelName);
+
+        Assert.assertSame(graph.getModel("cat"), cat);
+        Assert.assertNull(graph.getModel("Cat"));
+        Assert.assertSame(graph.getModelByName("Cat"), cat);
+        Assert.assertNull(graph.getModelByName(null));
+        Assert.assertEquals(graph.getModelsByName().size(), 6);
+        Assert.assertEquals(new ArrayList<>(graph.getModels()), Arrays.asList(cat, pet, dog, named, status, tags));
+        Assert.assertEquals(graph.getModelTemplates().size(), 6);
+        Assert.assertSame(graph.getModelTemplates().get(0).get("model"), cat);
+
+        Assert.assertEquals(graph.getChildren(pet), Arrays.asList(cat, dog));
+        Assert.assertTrue(graph.getChildren(cat).isEmpty());
+        Assert.assertEquals(graph.getInterfaceModels(cat), Collections.singletonList(named));
+        Assert.assertEquals(new ArrayList<>(graph.getEnums().values()), Collections.singletonList(status));
+        Assert.assertEquals(new ArrayList<>(graph.getAliases().keySet()), Collections.singletonList("tags"));
+    }
+
+    @Test
+    public void testTopologicalOrder() {
+        CodegenModel pet = model("Pet", null);
+        CodegenModel cat = model("Cat", "Pet", "Named");
+        CodegenModel named = model("Named", null);
+        // a parent outside of the graph is ignored
+        CodegenModel other = model("Other", "Missing");
+
+        ModelGraph graph = new ModelGraph(bundles(cat, other, named, pet), ModelGraphTest::toModelName);
+
+        List<CodegenModel> order = graph.getTopologicalOrder();
+        Assert.assertEquals(order.size(), 4);
+        Assert.assertTrue(order.indexOf(pet) < order.indexOf(cat));
+        Assert.assertTrue(order.indexOf(named) < order.indexOf(cat));
+        Assert.assertEquals(order, Arrays.asList(pet, named, cat, other));
+    }
+
+    @Test
+    public void testTopologicalOrderWithCycle() {
+        CodegenModel a = model("A", "B");
+        CodegenModel b = model("B", "A");
+
+        ModelGraph graph = new ModelGraph(bundles(a, b), ModelGraphTest::toModelName);
+
+        Assert.assertEquals(graph.getTopologicalOrder(), Arrays.asList(b, a));
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenBundlesChange() {
+        CodegenModel pet = model("Pet", null);
+        CodegenModel cat = model("Cat", "Pet");
+        Map<String, Object> bundles = bundles(pet, cat);
+        ModelGraph graph = new ModelGraph(bundles, ModelGraphTest::toModelName);
+        Assert.assertEquals(graph.getChildren(pet), Collections.singletonList(cat));
+
+        graph.remove("cat");
+        Assert.assertFalse(bundles.containsKey("cat"));
+        Assert.assertNull(graph.getModelByName("Cat"));
+        Assert.assertTrue(graph.getChildren(pet).isEmpty());
+
+        CodegenModel dog = model("Dog", "Pet");
+        graph.put("dog", bundle(dog));
+        Assert.assertEquals(graph.getChildren(pet), Collections.singletonList(dog));
+
+        graph.entrySet().removeIf(entry -> "dog".equals(entry.getKey()));
+        Assert.assertNull(graph.getModel("dog"));
+
+        // changes to the models themselves need a refresh
+        CodegenModel cat2 = model("Cat", null);
+        graph.put("cat", bundle(cat2));
+        Assert.assertTrue(graph.getChildren(pet).isEmpty());
+        cat2.parent = "Pet";
+        Assert.assertTrue(graph.getChildren(pet).isEmpty());
+        graph.refresh();
+        Assert.assertEquals(graph.getChildren(pet), Collections.singletonList(cat2));
+    }
+
+    @Test
+    public void testOfAndModelUtils() {
+        CodegenModel pet = model("Pet", null);
+        Map<String, Object> bundles = bundles(pet);
+        ModelGraph graph = ModelGraph.of(bundles, ModelGraphTest::toModelName);
+
+        Assert.assertSame(ModelGraph.of(graph, ModelGraphTest::toModelName), graph);
+        Assert.assertEquals(graph, bundles);
+        Assert.assertSame(ModelUtils.getModelByName("pet", graph), pet);
+        Assert.assertSame(ModelUtils.getModelByName("pet", bundles), pet);
+        Assert.assertNull(ModelUtils.getModelByName("cat", graph));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+
+public class SpecNormalizerTest {
+
+    @Test
+    public void testNormalizeIsIdempotent() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/inline_model_resolver.yaml");
+        Assert.assertFalse(SpecNormalizer.isNormalized(openAPI));
+
+        SpecNormalizer.normalize(openAPI);
+        Assert.assertTrue(SpecNormalizer.isNormalized(openAPI));
+        int schemaCount = openAPI.getComponents().getSchemas().size();
+
+        SpecNormalizer.normalize(openAPI);
+        Assert.assertEquals(openAPI.getComponents().getSchemas().size(), schemaCount);
+
+        Assert.assertTrue(SpecNormalizer.unmark(openAPI));
+        Assert.assertFalse(SpecNormalizer.isNormalized(openAPI));
+        Assert.assertFalse(SpecNormalizer.unmark(openAPI));
+    }
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        OpenAPI openAPI = SpecNormalizer.normalize(
+                TestUtils.parseSpec("src/test/resources/3_0/inline_model_resolver.yaml"));
+
+        File output = Files.createTempFile("normalized", ".json.gz").toFile();
+        try {
+            SpecNormalizer.write(openAPI, output);
+            Assert.assertTrue(SpecNormalizer.isNormalizedFile(output.getAbsolutePath()));
+
+            OpenAPI read = SpecNormalizer.read(output);
+            Assert.assertTrue(SpecNormalizer.isNormalized(read));
+            Assert.assertEquals(read.getComponents().getSchemas().keySet(),
+                    openAPI.getComponents().getSchemas().keySet());
+            Assert.assertEquals(read.getPaths().keySet(), openAPI.getPaths().keySet());
+        } finally {
+            output.delete();
+        }
+
+        Assert.assertFalse(SpecNormalizer.isNormalizedFile("src/test/resources/3_0/inline_model_resolver.yaml"));
+        Assert.assertFalse(SpecNormalizer.isNormalizedFile("http://localhost/openapi.yaml"));
+    }
+
+    @Test
+    public void testGenerateFromNormalizedFile() throws Exception {
+        String spec = "src/test/resources/3_0/petstore.yaml";
+        File output = Files.createTempDirectory("test").toFile();
+        File normalized = Files.createTempFile("normalized", ".json.gz").toFile();
+        try {
+            SpecNormalizer.write(SpecNormalizer.normalize(configurator(spec, output).readInputSpec()), normalized);
+
+            Map<String, String> expected = generate(configurator(spec, output));
+            Map<String, String> actual = generate(configurator(normalized.getAbsolutePath(), output));
+
+            Assert.assertFalse(expected.isEmpty());
+            Assert.assertEquals(actual.keySet(), expected.keySet());
+            for (Map.Entry<String, String> file : expected.entrySet()) {
+                Assert.assertEquals(actual.get(file.getKey()), file.getValue(), file.getKey());
+            }
+        } finally {
+            normalized.delete();
+            output.deleteOnExit();
+        }
+    }
+
+    private static CodegenConfigurator configurator(String inputSpec, File output) {
+        return new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec(inputSpec)
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"))
+                .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+    }
+
+    private static Map<String, String> generate(CodegenConfigurator configurator) {
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        return generator.getFiles();
+    }
+}
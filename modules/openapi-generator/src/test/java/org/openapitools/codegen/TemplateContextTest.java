@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.samskivert.mustache.Mustache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class TemplateContextTest {
+
+    @Test
+    public void testScopePrecedence() {
+        Map<String, Object> additionalProperties = new HashMap<>();
+        additionalProperties.put("classname", "FromProperties");
+        additionalProperties.put("invokerPackage", "org.example");
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("classname", "Pet");
+        data.put("models", "pet");
+
+        Map<String, Object> context = new TemplateContext(additionalProperties).putAllBeneath(data);
+        // same result as putting the data into a map, then copying the additional properties over it
+        Map<String, Object> copied = new HashMap<>(data);
+        copied.putAll(additionalProperties);
+        Assert.assertEquals(context, copied);
+        Assert.assertEquals(context.size(), 3);
+
+        context.put("classname", "Pet");
+        Assert.assertEquals(context.get("classname"), "Pet");
+        Assert.assertEquals(additionalProperties.get("classname"), "FromProperties");
+
+        context.remove("invokerPackage");
+        Assert.assertFalse(context.containsKey("invokerPackage"));
+        Assert.assertNull(context.get("invokerPackage"));
+        Assert.assertTrue(additionalProperties.containsKey("invokerPackage"));
+
+        context.put("invokerPackage", "org.example.client");
+        Assert.assertEquals(context.get("invokerPackage"), "org.example.client");
+    }
+
+    @Test
+    public void testNestedContexts() {
+        Map<String, Object> additionalProperties = new HashMap<>();
+        additionalProperties.put("appName", "Petstore");
+        TemplateContext operation = new TemplateContext(additionalProperties);
+        operation.put("classname", "PetApi");
+
+        TemplateContext listed = new TemplateContext(operation);
+        listed.put("hasMore", "true");
+        Assert.assertEquals(listed.get("appName"), "Petstore");
+        Assert.assertEquals(listed.get("classname"), "PetApi");
+        Assert.assertFalse(operation.containsKey("hasMore"));
+        Assert.assertEquals(listed.keySet().size(), 3);
+    }
+
+    @Test
+    public void testMustacheResolvesThroughScopes() {
+        Map<String, Object> additionalProperties = new HashMap<>();
+        additionalProperties.put("appName", "Petstore");
+        additionalProperties.put("hideGenerationTimestamp", false);
+        TemplateContext context = new TemplateContext(additionalProperties);
+        context.put("classname", "PetApi");
+        context.put("hideGenerationTimestamp", true);
+
+        String output = Mustache.compiler()
+                .compile("{{classname}} of {{appName}}{{^hideGenerationTimestamp}} at noon{{/hideGenerationTimestamp}}")
+                .execute(context);
+        Assert.assertEquals(output, "PetApi of Petstore");
+    }
+}
@@ -0,0 +1,57 @@
+package org.openapitools.codegen;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+public class TemplateWatcherTest {
+
+    @Test
+    public void testReferencedFiles() throws Exception {
+        Path root = Files.createTempDirectory("TemplateWatcherTest").toAbsolutePath();
+        Path spec = root.resolve("openapi.yaml");
+        Path schemas = Files.createDirectory(root.resolve("schemas"));
+        Path pet = schemas.resolve("pet.json");
+        Path category = Files.createDirectory(root.resolve("common")).resolve("category.yaml");
+        try {
+            Files.write(spec, ("openapi: 3.0.1\n"
+                    + "components:\n"
+                    + "  schemas:\n"
+                    + "    Pet:\n"
+                    + "      $ref: 'schemas/pet.json#/Pet'\n"
+                    + "    Local:\n"
+                    + "      $ref: '#/components/schemas/Pet'\n"
+                    + "    Remote:\n"
+                    + "      $ref: 'https://example.com/remote.yaml'\n"
+                    + "    Missing:\n"
+                    + "      $ref: 'missing.yaml'\n").getBytes(StandardCharsets.UTF_8));
+            Files.write(pet, "{\"Pet\": {\"properties\": {\"category\": {\"$ref\": \"../common/category.yaml\"}}}}"
+                    .getBytes(StandardCharsets.UTF_8));
+            Files.write(category, "type: string\n".getBytes(StandardCharsets.UTF_8));
+
+            Assert.assertEquals(TemplateWatcher.referencedFiles(spec),
+                    new LinkedHashSet<>(Arrays.asList(spec, pet, category)));
+        } finally {
+            for (Path path : Arrays.asList(category, category.getParent(), pet, schemas, spec, root)) {
+                new File(path.toString()).delete();
+            }
+        }
+    }
+
+    @Test
+    public void testIsIgnored() {
+        Assert.assertFalse(TemplateWatcher.isIgnored(Paths.get("templates", "model.mustache")));
+        Assert.assertTrue(TemplateWatcher.isIgnored(Paths.get("templates", ".model.mustache.swp")));
+        Assert.assertTrue(TemplateWatcher.isIgnored(Paths.get("templates", "model.mustache~")));
+        Assert.assertTrue(TemplateWatcher.isIgnored(Paths.get("templates", "model.mustache.swp")));
+        Assert.assertTrue(TemplateWatcher.isIgnored(Paths.get("templates", "#model.mustache#")));
+        Assert.assertTrue(TemplateWatcher.isIgnored(Paths.get("templates", ".hidden")));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.elm;
+
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.languages.ElmClientCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ElmClientCodegenTest {
+
+    private static CodegenModel model(String classname, String parent) {
+        CodegenModel model = new CodegenModel();
+        model.classname = classname;
+        model.parent = parent;
+        return model;
+    }
+
+    private static void addBundle(Map<String, Object> objs, String schemaName, CodegenModel model) {
+        Map<String, Object> mo = new HashMap<>();
+        mo.put("model", model);
+        List<Map<String, Object>> models = new ArrayList<>();
+        models.add(mo);
+        Map<String, Object> bundle = new HashMap<>();
+        bundle.put("models", models);
+        objs.put(schemaName, bundle);
+    }
+
+    @Test
+    public void testChildrenSortedByClassname() {
+        final ElmClientCodegen codegen = new ElmClientCodegen();
+        CodegenModel pet = model("Pet", null);
+        CodegenModel dog = model("Dog", "Pet");
+        CodegenModel cat = model("cat", "Pet");
+        CodegenModel bird = model("Bird", "Pet");
+        CodegenModel other = model("Other", null);
+
+        Map<String, Object> objs = new LinkedHashMap<>();
+        addBundle(objs, "Pet", pet);
+        addBundle(objs, "Dog", dog);
+        addBundle(objs, "Cat", cat);
+        addBundle(objs, "Bird", bird);
+        addBundle(objs, "Other", other);
+        codegen.postProcessAllModels(objs);
+
+        // collation order, which ignores case, unlike String order
+        Assert.assertEquals(pet.children, Arrays.asList(bird, cat, dog));
+        Assert.assertTrue(pet.hasChildren);
+        Assert.assertNull(other.children);
+        Assert.assertNull(dog.children);
+    }
+}
@@ -17,11 +17,37 @@
 
 package org.openapitools.codegen.haskellhttpclient;
 
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.ClientOpts;
 import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.TestUtils;
 import org.openapitools.codegen.languages.HaskellHttpClientCodegen;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 public class HaskellHttpClientCodegenTest {
 
     @Test
@@ -53,4 +79,76 @@ public class HaskellHttpClientCodegenTest {
         Assert.assertEquals(codegen.isHideGenerationTimestamp(), false);
     }
 
+    @Test
+    public void testGlobalTablesBuiltOnceForManyTags() throws IOException {
+        final int tagCount = 300;
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        openAPI.getComponents().addSchemas("Pet", new ObjectSchema().addProperties("name", new StringSchema()));
+        openAPI.setPaths(new Paths());
+        for (int i = 0; i < tagCount; i++) {
+            // mime types are added in reverse order, to check that the table ends up sorted
+            String mediaType = String.format("application/x-custom-%03d", tagCount - i);
+            openAPI.getPaths().addPathItem("/path" + i, new PathItem().post(new Operation().operationId("op" + i).addTagsItem("tag" + i)
+                    .requestBody(new RequestBody().required(true).content(new Content().addMediaType(mediaType,
+                            new MediaType().schema(new Schema().$ref("#/components/schemas/Pet")))))
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")))));
+        }
+
+        File output = Files.createTempDirectory("test").toFile();
+        try {
+            final AtomicInteger updates = new AtomicInteger();
+            final AtomicReference<List<Object>> models = new AtomicReference<>();
+            final HaskellHttpClientCodegen codegen = new HaskellHttpClientCodegen() {
+                @Override
+                public void updateGlobalAdditionalProps() {
+                    updates.incrementAndGet();
+                    super.updateGlobalAdditionalProps();
+                }
+
+                @Override
+                public void updateModelMimeTypes(List<Object> allModels) {
+                    models.set(allModels);
+                    super.updateModelMimeTypes(allModels);
+                }
+            };
+            codegen.setOutputDir(output.getAbsolutePath());
+            ClientOptInput opts = new ClientOptInput();
+            opts.setOpenAPI(openAPI);
+            opts.setConfig(codegen);
+            opts.setOpts(new ClientOpts());
+
+            MockDefaultGenerator generator = new MockDefaultGenerator();
+            generator.opts(opts).generate();
+
+            Assert.assertEquals(updates.get(), 1);
+            List<Map<String, String>> unknownMimeTypes = (List<Map<String, String>>) codegen.additionalProperties().get("x-unknownMimeTypes");
+            Assert.assertEquals(unknownMimeTypes.size(), tagCount);
+            Assert.assertEquals(unknownMimeTypes.get(0).get("mediaType"), "application/x-custom-001");
+            Assert.assertEquals(unknownMimeTypes.get(tagCount - 1).get("mediaType"), "application/x-custom-300");
+
+            String mimeTypes = null;
+            for (Map.Entry<String, String> file : generator.getFiles().entrySet()) {
+                if (file.getKey().endsWith("/MimeTypes.hs")) {
+                    mimeTypes = file.getValue();
+                }
+            }
+            Assert.assertNotNull(mimeTypes);
+            int first = mimeTypes.indexOf("\"application/x-custom-001\"");
+            Assert.assertTrue(first >= 0 && first < mimeTypes.indexOf("\"application/x-custom-300\""), mimeTypes);
+
+            // the model is sent as every one of them
+            CodegenModel pet = null;
+            for (Object o : models.get()) {
+                CodegenModel m = (CodegenModel) ((Map<String, Object>) o).get("model");
+                if ("Pet".equals(m.classname)) {
+                    pet = m;
+                }
+            }
+            Assert.assertNotNull(pet);
+            Assert.assertEquals(((Set<String>) pet.vendorExtensions.get("x-mimeTypes")).size(), tagCount);
+        } finally {
+            output.delete();
+        }
+    }
+
 }
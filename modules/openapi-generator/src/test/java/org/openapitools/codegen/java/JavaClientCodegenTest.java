@@ -301,6 +301,373 @@ public class JavaClientCodegenTest {
         output.deleteOnExit();
     }
 
+    @Test
+    public void testGenerateNativeClient() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(clientOptInput).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/ApiClient.java");
+        ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/ApiResponse.java");
+        ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/auth/OAuth.java");
+        Assert.assertFalse(generatedFiles.containsKey(new File(output, "src/main/java/org/openapitools/client/JSON.java").getAbsolutePath().replace("\\", "/")));
+
+        String apiClient = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/ApiClient.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(apiClient.contains("import java.net.http.HttpClient;"));
+        Assert.assertTrue(apiClient.contains("HttpClient.Version.HTTP_2"));
+        Assert.assertTrue(apiClient.contains("JavaTimeModule"));
+
+        String petApi = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/api/PetApi.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(petApi.contains("public Pet getPetById(Long petId) throws ApiException {"));
+        Assert.assertTrue(petApi.contains("public CompletableFuture<Pet> getPetByIdAsync(Long petId) {"));
+        Assert.assertTrue(petApi.contains("public CompletableFuture<ApiResponse<Void>> deletePetWithHttpInfoAsync(Long petId, String apiKey) {"));
+        Assert.assertTrue(petApi.contains(".replace(\"{\" + \"petId\" + \"}\", apiClient.escapeString(petId.toString()))"));
+
+        String pom = generatedFiles.get(new File(output, "pom.xml").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(pom.contains("<release>11</release>"));
+
+        output.deleteOnExit();
+    }
+
+    @Test
+    public void testStreamingArrayResponses() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.OKHTTP_GSON)
+                .addAdditionalProperty(JavaClientCodegen.STREAMING_ARRAY_RESPONSES, true)
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(clientOptInput).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/ApiItemCallback.java");
+
+        String apiClient = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/ApiClient.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(apiClient.contains("public <T> ApiResponse<Void> executeStreaming(Call call, Type itemType, ApiItemCallback<T> callback) throws ApiException {"));
+        Assert.assertTrue(apiClient.contains("return json.deserialize(body.charStream(), returnType);"));
+
+        String petApi = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/api/PetApi.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(petApi.contains("public ApiResponse<Void> findPetsByStatusStreaming(List<String> status, final ApiItemCallback<Pet> _callback) throws ApiException {"));
+        Assert.assertTrue(petApi.contains("Type localVarItemType = new TypeToken<Pet>(){}.getType();"));
+        // only list responses are streamed
+        Assert.assertFalse(petApi.contains("getPetByIdStreaming"));
+
+        output.deleteOnExit();
+    }
+
+    @Test
+    public void testApacheConnectorOnlyForJersey2() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.OKHTTP_GSON);
+        codegen.additionalProperties().put(JavaClientCodegen.USE_APACHE_CONNECTOR, "true");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.USE_APACHE_CONNECTOR), Boolean.FALSE);
+    }
+
+    @Test
+    public void testJersey2ApacheConnector() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.JERSEY2)
+                .addAdditionalProperty(JavaClientCodegen.USE_APACHE_CONNECTOR, true)
+                .setInputSpec("src/test/resources/3_0/ping.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(clientOptInput).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        String apiClient = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/ApiClient.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(apiClient.contains("clientConfig.connectorProvider(new ApacheConnectorProvider());"));
+        Assert.assertTrue(apiClient.contains("clientConfig.property(ApacheClientProperties.CONNECTION_MANAGER, getConnectionManager());"));
+        Assert.assertTrue(apiClient.contains("public synchronized ApiClient setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {"));
+        Assert.assertFalse(apiClient.contains("HttpUrlConnectorProvider"));
+
+        String pom = generatedFiles.get(new File(output, "pom.xml").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(pom.contains("<artifactId>jersey-apache-connector</artifactId>"));
+
+        output.deleteOnExit();
+    }
+
+    @Test
+    public void testWebClientReactiveStreaming() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.WEBCLIENT);
+        codegen.additionalProperties().put(JavaClientCodegen.REACTIVE_STREAMING, "true");
+        codegen.processOpts();
+
+        CodegenOperation events = new CodegenOperation();
+        events.returnType = "Event";
+        events.produces = Collections.singletonList(Collections.singletonMap("mediaType", "application/x-ndjson"));
+        CodegenOperation upload = new CodegenOperation();
+        upload.returnType = "Event";
+        upload.produces = Collections.singletonList(Collections.singletonMap("mediaType", "application/json"));
+        CodegenParameter body = new CodegenParameter();
+        body.isBodyParam = true;
+        body.isListContainer = true;
+        body.dataType = "List<Event>";
+        body.items = new CodegenProperty();
+        body.items.dataType = "Event";
+        upload.allParams.add(body);
+        upload.bodyParams.add(body.copy());
+        upload.bodyParam = body;
+
+        Map<String, Object> operations = new HashMap<>();
+        operations.put("operation", Arrays.asList(events, upload));
+        Map<String, Object> objs = new HashMap<>();
+        objs.put("operations", operations);
+        objs.put("imports", new ArrayList<Map<String, String>>());
+        codegen.postProcessOperationsWithModels(objs, Collections.emptyList());
+
+        Assert.assertEquals(events.vendorExtensions.get("x-flux-response"), Boolean.TRUE);
+        Assert.assertNull(upload.vendorExtensions.get("x-flux-response"));
+        Assert.assertEquals(body.dataType, "Flux<Event>");
+        Assert.assertEquals(upload.bodyParams.get(0).dataType, "Flux<Event>");
+    }
+
+    @Test
+    public void testGenerateWebClientReactiveStreaming() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.WEBCLIENT)
+                .addAdditionalProperty(JavaClientCodegen.REACTIVE_STREAMING, true)
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(clientOptInput).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        String userApi = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/api/UserApi.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(userApi.contains("public Mono<Void> createUsersWithArrayInput(Flux<User> "));
+        String petApi = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/api/PetApi.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(petApi.contains("public Flux<Pet> findPetsByStatus(List<String> status)"));
+
+        String apiClient = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/ApiClient.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(apiClient.contains("new Jackson2JsonDecoder(mapper, MediaType.APPLICATION_JSON, MediaType.APPLICATION_STREAM_JSON, APPLICATION_NDJSON)"));
+        Assert.assertTrue(apiClient.contains("encoder.setStreamingMediaTypes(Arrays.asList(MediaType.APPLICATION_STREAM_JSON, APPLICATION_NDJSON));"));
+        Assert.assertTrue(apiClient.contains("return BodyInserters.fromPublisher(publisher, Object.class);"));
+
+        output.deleteOnExit();
+    }
+
+    private static Map<String, Object> modelBundle(CodegenModel model) {
+        Map<String, Object> mo = new HashMap<>();
+        mo.put("model", model);
+        Map<String, Object> bundle = new HashMap<>();
+        bundle.put("models", Collections.singletonList(mo));
+        bundle.put("imports", new ArrayList<Map<String, String>>());
+        return bundle;
+    }
+
+    private static CodegenProperty property(String name) {
+        CodegenProperty property = new CodegenProperty();
+        property.name = name;
+        property.baseName = name;
+        return property;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testImmutableModelsConstructorParams() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.JERSEY2);
+        codegen.additionalProperties().put(JavaClientCodegen.IMMUTABLE_MODELS, "true");
+        codegen.processOpts();
+
+        CodegenModel animal = new CodegenModel();
+        animal.classname = "Animal";
+        animal.vars.add(property("name"));
+        CodegenModel dog = new CodegenModel();
+        dog.classname = "Dog";
+        dog.parent = "Animal";
+        // redeclared by the child, e.g. through allOf
+        CodegenProperty dogName = property("name");
+        dogName.datatypeWithEnum = "Object";
+        dog.vars.add(dogName);
+        dog.vars.add(property("breed"));
+        CodegenModel pets = new CodegenModel();
+        pets.classname = "Pets";
+        pets.parent = "ArrayList<Animal>";
+
+        Map<String, Object> objs = new LinkedHashMap<>();
+        objs.put("Dog", modelBundle(dog));
+        objs.put("Animal", modelBundle(animal));
+        objs.put("Pets", modelBundle(pets));
+        codegen.postProcessAllModels(objs);
+
+        Assert.assertEquals(animal.vendorExtensions.get("x-immutable"), Boolean.TRUE);
+        Assert.assertEquals(dog.vendorExtensions.get("x-immutable"), Boolean.TRUE);
+        Assert.assertNull(pets.vendorExtensions.get("x-immutable"));
+
+        List<CodegenProperty> params = (List<CodegenProperty>) dog.vendorExtensions.get("x-constructor-params");
+        Assert.assertEquals(params.size(), 2);
+        Assert.assertEquals(params.get(0).name, "name");
+        Assert.assertNull(params.get(0).datatypeWithEnum);
+        Assert.assertTrue(params.get(0).hasMore);
+        Assert.assertEquals(params.get(1).name, "breed");
+        Assert.assertFalse(params.get(1).hasMore);
+        List<CodegenProperty> superParams = (List<CodegenProperty>) dog.vendorExtensions.get("x-super-params");
+        Assert.assertEquals(superParams.size(), 1);
+        Assert.assertFalse(superParams.get(0).hasMore);
+        // the properties of the models themselves are left alone
+        Assert.assertNotSame(params.get(0), animal.vars.get(0));
+        Assert.assertFalse(animal.vars.get(0).hasMore);
+
+        List<Map<String, String>> imports = (List<Map<String, String>>) ((Map<String, Object>) objs.get("Dog")).get("imports");
+        Assert.assertTrue(imports.contains(Collections.singletonMap("import", "com.fasterxml.jackson.annotation.JsonCreator")));
+        // mutable models keep their imports
+        imports = (List<Map<String, String>>) ((Map<String, Object>) objs.get("Pets")).get("imports");
+        Assert.assertTrue(imports.isEmpty());
+    }
+
+    @Test
+    public void testImmutableModelsNeedJackson() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.OKHTTP_GSON);
+        codegen.additionalProperties().put(JavaClientCodegen.IMMUTABLE_MODELS, "true");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.IMMUTABLE_MODELS), Boolean.FALSE);
+    }
+
+    @Test
+    public void testGenerateImmutableModels() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.JERSEY2)
+                .addAdditionalProperty(JavaClientCodegen.IMMUTABLE_MODELS, true)
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(clientOptInput).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        String pet = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/model/Pet.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(pet.contains("private final String name;"));
+        Assert.assertTrue(pet.contains("@JsonCreator"));
+        Assert.assertTrue(pet.contains("public static class Builder {"));
+        Assert.assertTrue(pet.contains("this.photoUrls = photoUrls != null ? java.util.Collections.unmodifiableList(new java.util.ArrayList<String>(photoUrls))"));
+        Assert.assertFalse(pet.contains("public void setName("));
+        Assert.assertFalse(pet.contains("Objects.hash("));
+
+        String petTest = generatedFiles.get(new File(output, "src/test/java/org/openapitools/client/model/PetTest.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(petTest.contains("new Pet.Builder().build()"));
+
+        output.deleteOnExit();
+    }
+
+    @Test
+    public void testJacksonAfterburnerOnlyForJacksonLibraries() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.OKHTTP_GSON);
+        codegen.additionalProperties().put(JavaClientCodegen.USE_JACKSON_AFTERBURNER, "true");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.USE_JACKSON_AFTERBURNER), Boolean.FALSE);
+    }
+
+    @Test
+    public void testGenerateJacksonAfterburner() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .addAdditionalProperty(JavaClientCodegen.USE_JACKSON_AFTERBURNER, true)
+                .setInputSpec("src/test/resources/3_0/ping.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(clientOptInput).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        String apiClient = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/ApiClient.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(apiClient.contains("mapper.registerModule(new AfterburnerModule());"));
+        Assert.assertTrue(apiClient.contains("return readerFor(returnType.getType()).readValue(parser);"));
+        Assert.assertTrue(apiClient.contains("writerFor(obj.getClass()).writeValueAsBytes(obj)"));
+
+        String pom = generatedFiles.get(new File(output, "pom.xml").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(pom.contains("<artifactId>jackson-module-afterburner</artifactId>"));
+
+        output.deleteOnExit();
+    }
+
+    @Test
+    public void testGenerateJacksonAfterburnerRestTemplate() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.RESTTEMPLATE)
+                .addAdditionalProperty(JavaClientCodegen.USE_JACKSON_AFTERBURNER, true)
+                .addAdditionalProperty(JavaClientCodegen.DATE_LIBRARY, "threetenbp")
+                .setInputSpec("src/test/resources/3_0/ping.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(clientOptInput).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        String apiClient = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/ApiClient.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(apiClient.contains("import com.fasterxml.jackson.module.afterburner.AfterburnerModule;"));
+        Assert.assertEquals(apiClient.split("import org.springframework.http.converter.HttpMessageConverter;", -1).length, 2);
+        Assert.assertEquals(apiClient.split("import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;", -1).length, 2);
+
+        String gradle = generatedFiles.get(new File(output, "build.gradle").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(gradle.contains("com.fasterxml.jackson.module:jackson-module-afterburner"));
+
+        output.deleteOnExit();
+    }
+
+    @Test
+    public void testGenerateJacksonAfterburnerWebClientGradle() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.WEBCLIENT)
+                .addAdditionalProperty(JavaClientCodegen.USE_JACKSON_AFTERBURNER, true)
+                .setInputSpec("src/test/resources/3_0/ping.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(clientOptInput).generate();
+
+        String gradle = generator.getFiles().get(new File(output, "build.gradle").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(gradle.contains("com.fasterxml.jackson.module:jackson-module-afterburner"));
+
+        output.deleteOnExit();
+    }
+
     @Test
     public void testReferencedHeader() {
         final OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/issue855.yaml");
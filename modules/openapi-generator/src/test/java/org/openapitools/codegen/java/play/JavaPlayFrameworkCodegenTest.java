@@ -17,11 +17,24 @@
 
 package org.openapitools.codegen.java.play;
 
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.TestUtils;
 import org.openapitools.codegen.languages.JavaPlayFrameworkCodegen;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 public class JavaPlayFrameworkCodegenTest {
 
     @Test
@@ -93,4 +106,27 @@ public class JavaPlayFrameworkCodegenTest {
         Assert.assertEquals(codegen.getConfigPackage(), "xyz.yyyyy.cccc.config");
         Assert.assertEquals(codegen.additionalProperties().get(JavaPlayFrameworkCodegen.CONFIG_PACKAGE), "xyz.yyyyy.cccc.config");
     }
+
+    @Test
+    public void testPathWithQuoteIsEscapedInRoute() {
+        final JavaPlayFrameworkCodegen codegen = new JavaPlayFrameworkCodegen();
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        codegen.setOpenAPI(openAPI);
+        Operation operation = new Operation()
+                .operationId("getPet")
+                .addParametersItem(new PathParameter().name("pet_id").schema(new StringSchema()))
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")));
+
+        CodegenOperation op = codegen.fromOperation("/pet\"s/{pet_id}", "get", operation, null);
+        Assert.assertEquals(op.path, "/pet%22s/{pet_id}");
+        Assert.assertEquals(op.pathTemplate.path, "/pet%22s/{pet_id}");
+
+        Map<String, Object> operations = new HashMap<>();
+        operations.put("operation", new ArrayList<>(Collections.singletonList(op)));
+        Map<String, Object> objs = new HashMap<>();
+        objs.put("operations", operations);
+        codegen.postProcessOperationsWithModels(objs, Collections.emptyList());
+
+        Assert.assertEquals(op.path, "/pet%22s/:petId");
+    }
 }
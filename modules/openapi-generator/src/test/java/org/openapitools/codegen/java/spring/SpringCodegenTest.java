@@ -20,11 +20,18 @@ package org.openapitools.codegen.java.spring;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.servers.Server;
+import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.languages.SpringCodegen;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+
 public class SpringCodegenTest {
 
     @Test
@@ -110,4 +117,48 @@ public class SpringCodegenTest {
         Assert.assertEquals(codegen.additionalProperties().get(SpringCodegen.TITLE), "someTest");
         Assert.assertEquals(codegen.additionalProperties().get(SpringCodegen.SERVER_PORT), "8088");
     }
+
+    @Test
+    public void testJacksonAfterburnerNotForSpringCloud() throws Exception {
+        final SpringCodegen codegen = new SpringCodegen();
+        codegen.setLibrary(SpringCodegen.SPRING_CLOUD_LIBRARY);
+        codegen.additionalProperties().put(SpringCodegen.USE_JACKSON_AFTERBURNER, "true");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(SpringCodegen.USE_JACKSON_AFTERBURNER), Boolean.FALSE);
+    }
+
+    @Test
+    public void testGenerateReactiveStreamingBodies() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("spring")
+                .addAdditionalProperty(SpringCodegen.REACTIVE, true)
+                .addAdditionalProperty(SpringCodegen.DELEGATE_PATTERN, true)
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(clientOptInput).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        String petApi = generatedFiles.get(new File(output, "src/main/java/org/openapitools/api/PetApi.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(petApi.contains("@RequestPart(\"file\") Flux<Part> file, ServerWebExchange exchange)"));
+        Assert.assertTrue(petApi.contains("import org.springframework.http.codec.multipart.Part;"));
+        Assert.assertFalse(petApi.contains("MultipartFile"));
+
+        String petApiDelegate = generatedFiles.get(new File(output, "src/main/java/org/openapitools/api/PetApiDelegate.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(petApiDelegate.contains("Flux<Part> file,"));
+        Assert.assertTrue(petApiDelegate.contains("addPet(Mono<Pet> "));
+        Assert.assertTrue(petApiDelegate.contains("Mono<ResponseEntity<Flux<Pet>>> findPetsByStatus("));
+        Assert.assertFalse(petApiDelegate.contains("NativeWebRequest"));
+        Assert.assertFalse(petApiDelegate.contains("MultipartFile"));
+
+        String userApiDelegate = generatedFiles.get(new File(output, "src/main/java/org/openapitools/api/UserApiDelegate.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(userApiDelegate.contains("createUsersWithArrayInput(Flux<User> "));
+
+        output.deleteOnExit();
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.mustache;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenParameter;
+import org.openapitools.codegen.CodegenProperty;
+import org.openapitools.codegen.TemplateContext;
+import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class FieldAccessCollectorTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FieldAccessCollectorTest.class);
+
+    public static class CustomProperty extends CodegenProperty {
+        public String hasMore = "hiding field";
+        public String extra = "extra field";
+
+        public String getTitle() {
+            return "method";
+        }
+    }
+
+    @Test
+    public void testEveryPublicFieldHasAnAccessor() {
+        for (Class<?> type : Arrays.asList(CodegenModel.class, CodegenOperation.class, CodegenParameter.class,
+                CodegenProperty.class)) {
+            Set<String> fields = new HashSet<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isPublic(field.getModifiers()) && !Modifier.isStatic(field.getModifiers())) {
+                    fields.add(field.getName());
+                }
+            }
+            Assert.assertEquals(FieldAccessCollector.accessorNames(type), fields, type.getSimpleName());
+        }
+    }
+
+    @Test
+    public void testMethodsAndHidingFieldsTakePrecedence() {
+        String template = "{{title}} {{hasMore}} {{extra}} {{isEnum}}";
+        CustomProperty property = new CustomProperty();
+        property.title = "field";
+        ((CodegenProperty) property).hasMore = true;
+        property.isEnum = true;
+
+        String output = Mustache.compiler().withCollector(new FieldAccessCollector()).compile(template).execute(property);
+
+        Assert.assertEquals(output, Mustache.compiler().compile(template).execute(property));
+        Assert.assertEquals(output, "method hiding field extra field true");
+    }
+
+    @Test
+    public void testMapsAreResolvedByKey() {
+        Map<String, Object> scope = new HashMap<>();
+        scope.put("scopes", "from the map");
+        TemplateContext context = new TemplateContext(scope);
+
+        String output = Mustache.compiler().withCollector(new FieldAccessCollector()).compile("{{scopes}}").execute(context);
+
+        Assert.assertEquals(output, "from the map");
+    }
+
+    /**
+     * Renders the Java model.mustache for a model of 200 properties with both collectors, checks that the output is
+     * identical, and logs the time each collector takes.
+     */
+    @Test
+    public void testModelWithManyProperties() {
+        final int propertyCount = 200;
+        Schema schema = new ObjectSchema();
+        for (int i = 0; i < propertyCount; i++) {
+            schema.addProperties("property" + i, i % 2 == 0 ? new StringSchema() : new IntegerSchema());
+        }
+        schema.addRequiredItem("property0");
+        OpenAPI openAPI = TestUtils.createOpenAPIWithOneSchema("Large", schema);
+        JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.processOpts();
+        codegen.setOpenAPI(openAPI);
+        CodegenModel model = codegen.fromModel("Large", schema);
+
+        Map<String, Object> modelEntry = new HashMap<>();
+        modelEntry.put("model", model);
+        modelEntry.put("importPath", codegen.toModelImport(model.classname));
+        Map<String, Object> bundle = new HashMap<>(codegen.additionalProperties());
+        bundle.put("package", codegen.modelPackage());
+        bundle.put("models", Collections.singletonList(modelEntry));
+        bundle.put("imports", new ArrayList<Map<String, String>>());
+        bundle = codegen.postProcessModels(bundle);
+
+        Template withDefault = compile(codegen, Mustache.compiler());
+        Template withAccessors = compile(codegen, Mustache.compiler().withCollector(new FieldAccessCollector()));
+        String output = withAccessors.execute(bundle);
+        Assert.assertEquals(output, withDefault.execute(bundle));
+        Assert.assertTrue(output.contains("property199"));
+
+        final int rounds = 50;
+        long defaultNanos = 0;
+        long accessorNanos = 0;
+        for (int i = 0; i < 2 * rounds; i++) {
+            long start = System.nanoTime();
+            withDefault.execute(bundle);
+            long middle = System.nanoTime();
+            withAccessors.execute(bundle);
+            long end = System.nanoTime();
+            // the first half warms up both templates
+            if (i >= rounds) {
+                defaultNanos += middle - start;
+                accessorNanos += end - middle;
+            }
+        }
+        LOGGER.info("model.mustache with {} properties: {} us per render with DefaultCollector, "
+                        + "{} us with FieldAccessCollector", propertyCount,
+                defaultNanos / rounds / 1000, accessorNanos / rounds / 1000);
+    }
+
+    private static Template compile(JavaClientCodegen codegen, Mustache.Compiler compiler) {
+        return codegen.processCompiler(compiler)
+                .withLoader(name -> new InputStreamReader(FieldAccessCollectorTest.class.getClassLoader()
+                        .getResourceAsStream("Java/" + name + ".mustache"), StandardCharsets.UTF_8))
+                .defaultValue("")
+                .compile(new InputStreamReader(FieldAccessCollectorTest.class.getClassLoader()
+                        .getResourceAsStream("Java/model.mustache"), StandardCharsets.UTF_8));
+    }
+}
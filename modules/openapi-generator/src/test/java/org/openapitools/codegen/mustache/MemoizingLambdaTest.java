@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.mustache;
+
+import com.samskivert.mustache.Mustache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class MemoizingLambdaTest {
+
+    @Test
+    public void testRepeatedTextIsFormattedOnce() {
+        CamelCaseLambda camelcase = new CamelCaseLambda();
+        Map<String, Object> context = new HashMap<>();
+        context.put("camelcase", camelcase);
+        context.put("names", Arrays.asList("pet_id", "store_name", "pet_id", "pet_id"));
+
+        String output = Mustache.compiler()
+                .compile("{{#names}}{{#camelcase}}{{.}}{{/camelcase}} {{/names}}")
+                .execute(context);
+
+        Assert.assertEquals(output, "petId storeName petId petId ");
+        Assert.assertEquals(camelcase.getInvocations(), 4);
+        Assert.assertEquals(camelcase.getCacheHits(), 2);
+    }
+
+    @Test
+    public void testLongTextIsNotCached() {
+        UppercaseLambda uppercase = new UppercaseLambda();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i <= MemoizingLambda.MAX_CACHED_TEXT_LENGTH; i++) {
+            sb.append('a');
+        }
+        String text = sb.toString();
+
+        Assert.assertEquals(uppercase.format(text), text.toUpperCase(Locale.ROOT));
+        Assert.assertEquals(uppercase.format(text), text.toUpperCase(Locale.ROOT));
+        Assert.assertEquals(uppercase.getInvocations(), 2);
+        Assert.assertEquals(uppercase.getCacheHits(), 0);
+
+        Assert.assertEquals(uppercase.format("a"), "A");
+        Assert.assertEquals(uppercase.format("a"), "A");
+        Assert.assertEquals(uppercase.getCacheHits(), 1);
+    }
+}
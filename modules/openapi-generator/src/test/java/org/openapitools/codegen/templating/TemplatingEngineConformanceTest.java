@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import com.samskivert.mustache.Mustache;
+import org.apache.commons.io.FileUtils;
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders the embedded templates of several generators with the configured engine and with a reference renderer
+ * (jmustache, compiling every template for every file, as generators did before engines were pluggable), and checks
+ * that the outputs are identical. Other engines can be checked the same way by setting them on the configurator.
+ */
+public class TemplatingEngineConformanceTest {
+
+    @DataProvider(name = "generators")
+    public Object[][] generators() {
+        return new Object[][]{
+                {"java", null}, {"java", "resttemplate"}, {"spring", null}, {"typescript-angular", null},
+                {"python", null}, {"go", null}, {"ruby", null}, {"csharp", null}, {"kotlin", null},
+                {"scala-akka", null}, {"html2", null}
+        };
+    }
+
+    @Test
+    public void testLoadByIdentifier() {
+        Assert.assertTrue(TemplatingEngineLoader.byIdentifier(MustacheEngineAdapter.IDENTIFIER) instanceof MustacheEngineAdapter);
+        Assert.assertTrue(TemplatingEngineLoader.byIdentifier(MustacheEngineAdapter.class.getName()) instanceof MustacheEngineAdapter);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testLoadUnknownEngine() {
+        TemplatingEngineLoader.byIdentifier("no-such-engine");
+    }
+
+    @Test(dataProvider = "generators")
+    public void testOutputMatchesReference(String generatorName, String library) throws IOException {
+        File output = Files.createTempDirectory("test").toFile();
+        try {
+            CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName(generatorName)
+                    .setLibrary(library)
+                    .setTemplatingEngineName(MustacheEngineAdapter.IDENTIFIER)
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+            ComparingGenerator generator = new ComparingGenerator();
+            generator.opts(configurator.toClientOptInput()).generate();
+
+            Assert.assertFalse(generator.expected.isEmpty());
+            for (Map.Entry<String, String> file : generator.expected.entrySet()) {
+                Assert.assertEquals(generator.actual.get(file.getKey()), file.getValue(), file.getKey());
+            }
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    /**
+     * Renders every model and api template with the reference renderer before rendering it with the engine, and
+     * keeps both outputs instead of writing them.
+     */
+    private static class ComparingGenerator extends DefaultGenerator implements TemplatingGenerator {
+        private final Map<String, String> expected = new HashMap<>();
+        private final Map<String, String> actual = new HashMap<>();
+
+        @Override
+        protected File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename) throws IOException {
+            String templateFile = getFullTemplatePath(templateName);
+            String reference = config.processCompiler(Mustache.compiler())
+                    .withLoader(name -> new StringReader(getFullTemplateContents(getFullTemplatePath(name + ".mustache"))))
+                    .defaultValue("")
+                    .compile(getFullTemplateContents(templateFile))
+                    .execute(templateData);
+            expected.put(outputFilename.replace("//", "/").replace('/', File.separatorChar), reference);
+            return super.processTemplateToFile(templateData, templateName, outputFilename);
+        }
+
+        @Override
+        public File writeToFile(String filename, String contents) {
+            actual.put(filename.replace("//", "/").replace('/', File.separatorChar), contents);
+            return new File(filename);
+        }
+
+        @Override
+        public CodegenConfig getConfig() {
+            return config;
+        }
+
+        @Override
+        public String getFullTemplatePath(String name) {
+            return getFullTemplateFile(config, name);
+        }
+
+        @Override
+        public String getFullTemplateContents(String fullPath) {
+            return readTemplate(fullPath);
+        }
+    }
+}
@@ -26,15 +26,23 @@ import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -515,6 +523,166 @@ public class JsonCacheTest {
         assertFalse("cache should not be dirty after reads;", root.isDirty());
     }
 
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final int threadCount = 8;
+        final int iterations = 250;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                final int thread = t;
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        for (int i = 0; i < iterations; i++) {
+                            cache.set("/concurrent/t" + thread + "/i" + i, i);
+                            cache.add("/concurrentArray", i);
+                            assertEquals("concurrent read returned incorrect result;", "a string",
+                                    cache.getString("/string"));
+                            assertEquals("get with default returned incorrect result;", thread,
+                                    cache.getInt("/defaults/t" + thread, thread));
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals("concurrent adds lost array elements;", threadCount * iterations,
+                cache.size("/concurrentArray"));
+        for (int t = 0; t < threadCount; t++) {
+            assertEquals("concurrent sets lost properties;", iterations, cache.size("/concurrent/t" + t));
+        }
+        assertTrue("cache should be dirty after concurrent mutations;", root.isDirty());
+    }
+
+    @Test
+    public void testSaveFile() throws Exception {
+        File dir = Files.createTempDirectory("JsonCacheTest").toFile();
+        File file = new File(dir, "cache.json");
+        try {
+            cache.set("/string", "saved string");
+            root.flush(file);
+            assertTrue("flush() did not create the file;", file.exists());
+            assertFalse("cache should not be dirty after flush();", root.isDirty());
+            File[] siblings = dir.listFiles();
+            assertEquals("save() left temporary files behind;", 1, siblings == null ? 0 : siblings.length);
+
+            root.unload();
+            root.load(file);
+            assertEquals("reloaded cache has incorrect content;", "saved string", cache.getString("/string"));
+        } finally {
+            file.delete();
+            dir.delete();
+        }
+    }
+
+    @Test
+    public void testSaveFileJournal() throws Exception {
+        File dir = Files.createTempDirectory("JsonCacheTest").toFile();
+        File file = new File(dir, "cache.json");
+        File journal = new File(dir, "cache.json" + JsonCacheImpl.JOURNAL_SUFFIX);
+        try {
+            root.save(file);
+            root.unload();
+            root.load(file);
+            byte[] saved = Files.readAllBytes(file.toPath());
+
+            // Saving an unchanged cache must not touch the file.
+            long modified = file.lastModified();
+            Thread.sleep(10);
+            root.save(file);
+            assertEquals("save() rewrote an unchanged file;", modified, file.lastModified());
+            assertFalse("save() created a journal for an unchanged cache;", journal.exists());
+
+            cache.set("/string", "journalled string");
+            cache.add("/array/0", "inserted");
+            cache.delete("/boolean");
+            cache.set("/new/property", 42);
+            root.save(file);
+            assertFalse("cache should not be dirty after save();", root.isDirty());
+            assertTrue("save() did not create a journal;", journal.exists());
+            assertTrue("save() rewrote the file instead of appending to the journal;",
+                    Arrays.equals(saved, Files.readAllBytes(file.toPath())));
+
+            root.unload();
+            root.load(file);
+            assertFalse("cache should not be dirty after load();", root.isDirty());
+            assertEquals("reloaded string has incorrect content;", "journalled string", cache.getString("/string"));
+            assertEquals("reloaded array has incorrect size;", 5, cache.size("/array"));
+            assertEquals("reloaded array has incorrect element;", "inserted", cache.getString("/array/0"));
+            assertEquals("reloaded array has incorrect element;", 1, cache.get("/array/1"));
+            assertFalse("reloaded cache still contains deleted property;", cache.exists("/boolean"));
+            assertEquals("reloaded cache has incorrect new property;", 42, cache.getInt("/new/property"));
+        } finally {
+            journal.delete();
+            file.delete();
+            dir.delete();
+        }
+    }
+
+    @Test
+    public void testSaveFileCompactsJournal() throws Exception {
+        File dir = Files.createTempDirectory("JsonCacheTest").toFile();
+        File file = new File(dir, "cache.json");
+        File journal = new File(dir, "cache.json" + JsonCacheImpl.JOURNAL_SUFFIX);
+        try {
+            root.save(file);
+            root.unload();
+            root.load(file);
+            // Keep appending until the journal outgrows the file, at which point save() must rewrite the file.
+            boolean appended = false;
+            for (int i = 0; i < 1000; i++) {
+                cache.set("/string", "string " + i);
+                root.save(file);
+                if (journal.exists()) {
+                    appended = true;
+                    assertTrue("journal outgrew its threshold;", journal.length() <= file.length() * 0.5);
+                } else if (appended)
+                    break;
+            }
+            assertTrue("save() did not append to the journal;", appended);
+            assertFalse("save() did not compact the journal;", journal.exists());
+
+            root.unload();
+            root.load(file);
+            assertTrue("compacted cache has incorrect content;", cache.getString("/string").startsWith("string "));
+        } finally {
+            journal.delete();
+            file.delete();
+            dir.delete();
+        }
+    }
+
+    @Test
+    public void testSaveFileIgnoresIncompleteJournalEntry() throws Exception {
+        File dir = Files.createTempDirectory("JsonCacheTest").toFile();
+        File file = new File(dir, "cache.json");
+        File journal = new File(dir, "cache.json" + JsonCacheImpl.JOURNAL_SUFFIX);
+        try {
+            root.save(file);
+            root.unload();
+            root.load(file);
+            cache.set("/string", "journalled string");
+            root.save(file);
+            Files.write(journal.toPath(), "{\"path\":\"/string\",\"val".getBytes("UTF-8"),
+                    StandardOpenOption.APPEND);
+
+            root.unload();
+            root.load(file);
+            assertEquals("reloaded cache has incorrect content;", "journalled string", cache.getString("/string"));
+        } finally {
+            journal.delete();
+            file.delete();
+            dir.delete();
+        }
+    }
+
     @Test
     public void testGet() throws Exception {
         assertEquals("boolean get() returned incorrect result;", true, cache.get("/boolean"));
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class RandomValueGeneratorTest {
+
+    @Test
+    public void testSeededSequenceIsReproducible() {
+        RandomValueGenerator first = new RandomValueGenerator(42L);
+        RandomValueGenerator second = new RandomValueGenerator(42L);
+
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(first.nextInt("0", "1000", false, false), second.nextInt("0", "1000", false, false));
+            Assert.assertEquals(first.nextString("[a-z]{4,12}"), second.nextString("[a-z]{4,12}"));
+            Assert.assertEquals(first.nextBigDecimal("-1.5", "1.5", false, false),
+                    second.nextBigDecimal("-1.5", "1.5", false, false));
+            Assert.assertEquals(first.nextIndex(7), second.nextIndex(7));
+        }
+    }
+
+    @Test
+    public void testRangesAreHonoured() {
+        RandomValueGenerator generator = new RandomValueGenerator(7L);
+
+        for (int i = 0; i < 200; i++) {
+            int intValue = generator.nextInt("10", "20", true, true);
+            Assert.assertTrue(intValue > 10 && intValue < 20, "int out of range: " + intValue);
+
+            long longValue = generator.nextLong("-5", "5", false, false);
+            Assert.assertTrue(longValue >= -5 && longValue <= 5, "long out of range: " + longValue);
+
+            short shortValue = generator.nextShort("1", "3", false, false);
+            Assert.assertTrue(shortValue >= 1 && shortValue <= 3, "short out of range: " + shortValue);
+
+            byte byteValue = generator.nextByte("0", "9", false, false);
+            Assert.assertTrue(byteValue >= 0 && byteValue <= 9, "byte out of range: " + byteValue);
+
+            char charValue = generator.nextChar(null, null, false, false);
+            Assert.assertTrue(charValue >= 'a' && charValue <= 'z', "char out of range: " + charValue);
+
+            float floatValue = generator.nextFloat("0.5", "1.5", false, true);
+            Assert.assertTrue(floatValue >= 0.5F && floatValue < 1.5F, "float out of range: " + floatValue);
+
+            long dateValue = generator.nextDate(1000L, 2000L, false, false);
+            Assert.assertTrue(dateValue >= 1000L && dateValue <= 2000L, "date out of range: " + dateValue);
+
+            int index = generator.nextIndex(3);
+            Assert.assertTrue(index >= 0 && index < 3, "index out of range: " + index);
+        }
+    }
+
+    @Test
+    public void testStringsMatchPattern() {
+        RandomValueGenerator generator = new RandomValueGenerator(11L);
+
+        for (int i = 0; i < 50; i++) {
+            String value = generator.nextString("[A-Z]{2}-[0-9]{3}");
+            Assert.assertTrue(value.matches("[A-Z]{2}-[0-9]{3}"), "string does not match pattern: " + value);
+        }
+        Assert.assertEquals(generator.nextBytes(5, null, null, false, false).length, 5);
+    }
+}